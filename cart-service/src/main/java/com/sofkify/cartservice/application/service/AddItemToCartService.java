@@ -1,53 +1,72 @@
 package com.sofkify.cartservice.application.service;
 
 import com.sofkify.cartservice.domain.exception.CartException;
+import com.sofkify.cartservice.domain.exception.ServiceUnavailableException;
 import com.sofkify.cartservice.domain.model.Cart;
 import com.sofkify.cartservice.domain.ports.in.AddItemToCartUseCase;
 import com.sofkify.cartservice.domain.ports.out.CartRepositoryPort;
 import com.sofkify.cartservice.domain.ports.out.ProductServicePort;
 import com.sofkify.cartservice.domain.ports.out.UserServicePort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+// Sin transacción a nivel de clase: no se retiene una conexión a BD mientras se espera a los servicios remotos
 @Service
-@Transactional
 public class AddItemToCartService implements AddItemToCartUseCase {
 
     private final CartRepositoryPort cartRepository;
     private final ProductServicePort productServicePort;
     private final UserServicePort userServicePort;
+    private final Executor executor;
+    private final Duration timeout;
 
     public AddItemToCartService(CartRepositoryPort cartRepository, 
                              ProductServicePort productServicePort,
-                             UserServicePort userServicePort) {
+                             UserServicePort userServicePort,
+                             @Qualifier("addItemExecutor") Executor executor,
+                             @Value("${cart.add-item.timeout:6s}") Duration timeout) {
         this.cartRepository = cartRepository;
         this.productServicePort = productServicePort;
         this.userServicePort = userServicePort;
+        this.executor = executor;
+        this.timeout = timeout;
     }
 
     @Override
     public Cart addItem(UUID customerId, UUID productId, int quantity) {
-        
-        // Validar usuario
-        if (!userServicePort.validateUser(customerId)) {
-            throw new CartException("Invalid or inactive customer: " + customerId);
-        }
-        
-        // Validar producto
-        ProductServicePort.ProductInfo productInfo = productServicePort.getProduct(productId);
-        
-        if (!productInfo.active()) {
-            throw new CartException("Product is not active: " + productId);
+        List<CompletableFuture<?>> tasks;
+        CompletableFuture<ProductServicePort.ProductInfo> productCheck;
+        CompletableFuture<Optional<Cart>> cartLoad;
+        try {
+            // Validar usuario, validar producto y cargar carrito en paralelo: son independientes entre sí
+            CompletableFuture<Boolean> userCheck = validateUser(customerId);
+            productCheck = validateProduct(productId, quantity);
+            cartLoad = CompletableFuture.supplyAsync(() -> cartRepository.findByCustomerId(customerId), executor);
+            tasks = List.of(userCheck, productCheck, cartLoad);
+        } catch (RejectedExecutionException e) {
+            // Pool saturado: se rechaza la petición en lugar de ejecutarla en el hilo de la petición sin plazo
+            throw new ServiceUnavailableException("Add-item validation pool is saturated", e);
         }
+
+        awaitAll(tasks);
         
-        if (!productServicePort.validateStock(productId, quantity)) {
-            throw new CartException("Insufficient stock for product: " + productId);
-        }
+        ProductServicePort.ProductInfo productInfo = productCheck.join();
         
         // Obtener o crear carrito
-        Cart cart = cartRepository.findByCustomerId(customerId)
+        Cart cart = cartLoad.join()
                 .orElseGet(() -> new Cart(UUID.randomUUID(), customerId));
         
         // Agregar item al carrito
@@ -61,4 +80,61 @@ public class AddItemToCartService implements AddItemToCartUseCase {
         // Guardar carrito actualizado
         return cartRepository.save(cart);
     }
+
+    private CompletableFuture<Boolean> validateUser(UUID customerId) {
+        return CompletableFuture
+                .supplyAsync(() -> userServicePort.validateUser(customerId), executor)
+                .thenApply(valid -> {
+                    if (!valid) {
+                        throw new CartException("Invalid or inactive customer: " + customerId);
+                    }
+                    return valid;
+                });
+    }
+
+    private CompletableFuture<ProductServicePort.ProductInfo> validateProduct(UUID productId, int quantity) {
+        return CompletableFuture
+                .supplyAsync(() -> productServicePort.getProductForStockCheck(productId), executor)
+                .thenApply(productInfo -> {
+                    if (!productInfo.active()) {
+                        throw new CartException("Product is not active: " + productId);
+                    }
+                    if (!productInfo.hasStock(quantity)) {
+                        throw new CartException("Insufficient stock for product: " + productId);
+                    }
+                    return productInfo;
+                });
+    }
+
+    /**
+     * Espera a todas las tareas con un único plazo. Falla en cuanto cualquiera falla, sin esperar a las demás.
+     * Las pendientes no se cancelan (cancelar un CompletableFuture no interrumpe la llamada en curso): cada
+     * llamada HTTP termina por los timeouts de conexión y lectura de su pool, alineados con este plazo.
+     */
+    private void awaitAll(List<CompletableFuture<?>> tasks) {
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        tasks.forEach(task -> task.whenComplete((result, error) -> {
+            if (error != null) {
+                firstFailure.completeExceptionally(error);
+            }
+        }));
+        CompletableFuture<Void> allDone = CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]));
+        
+        try {
+            CompletableFuture.anyOf(allDone, firstFailure).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException(
+                    "Timed out after " + timeout.toMillis() + " ms validating add-item request", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while validating add-item request", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RuntimeException runtime ? runtime : new RuntimeException(cause);
+    }
 }
@@ -37,8 +37,7 @@ public class UpdateItemQuantityService implements UpdateItemQuantityUseCase {
         }
 
         // Actualizar la cantidad
-        CartItem item = itemToUpdate.get();
-        item.updateQuantity(newQuantity);
+        cart.updateItemQuantity(itemToUpdate.get(), newQuantity);
 
         // Guardar el carrito actualizado
         return cartRepository.save(cart);
@@ -0,0 +1,8 @@
+package com.sofkify.cartservice.domain.exception;
+
+// Dependencias remotas o pool de validación saturados: la petición puede reintentarse más tarde
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -26,6 +26,29 @@ public class Cart {
         this.updatedAt = LocalDateTime.now();
     }
 
+    private Cart(UUID id, UUID customerId, CartStatus status, List<CartItem> items,
+                 LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.status = status;
+        this.items = new ArrayList<>(items);
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Reconstrucción desde persistencia: conserva las marcas de tiempo guardadas (updatedAt respalda el ETag)
+    public static Cart reconstitute(UUID id, UUID customerId, List<CartItem> items,
+                                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Cart(
+            Objects.requireNonNull(id, "Cart ID cannot be null"),
+            Objects.requireNonNull(customerId, "Customer ID cannot be null"),
+            CartStatus.ACTIVE,
+            Objects.requireNonNull(items, "Cart items cannot be null"),
+            createdAt,
+            updatedAt
+        );
+    }
+
     public void addItem(UUID productId, String productName, BigDecimal productPrice, int quantity) {
         Objects.requireNonNull(productId, "Product ID cannot be null");
         Objects.requireNonNull(productName, "Product name cannot be null");
@@ -63,6 +86,12 @@ public class Cart {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void updateItemQuantity(CartItem cartItem, int newQuantity) {
+        Objects.requireNonNull(cartItem, "Cart item cannot be null");
+        cartItem.updateQuantity(newQuantity);
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void removeItem(CartItem cartItem) {
         Objects.requireNonNull(cartItem, "Cart item cannot be null");
         items.remove(cartItem);
@@ -26,6 +26,23 @@ public class CartItem {
         validate();
     }
 
+    private CartItem(UUID id, UUID productId, String productName, BigDecimal productPrice, int quantity,
+                     LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.productId = productId;
+        this.productName = productName;
+        this.productPrice = productPrice;
+        this.quantity = quantity;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Reconstrucción desde persistencia con las marcas de tiempo guardadas
+    public static CartItem reconstitute(UUID id, UUID productId, String productName, BigDecimal productPrice,
+                                        int quantity, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new CartItem(id, productId, productName, productPrice, quantity, createdAt, updatedAt);
+    }
+
     private void validate() {
         if (productPrice.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Product price must be greater than zero");
@@ -5,8 +5,9 @@ import java.util.UUID;
 public interface ProductServicePort {
     
     ProductInfo getProduct(UUID productId);
-    
-    boolean validateStock(UUID productId, int requiredQuantity);
+
+    // Variante para validar stock: tolera como máximo la ventana de obsolescencia configurada
+    ProductInfo getProductForStockCheck(UUID productId);
     
     record ProductInfo(
         UUID id,
@@ -14,5 +15,10 @@ public interface ProductServicePort {
         java.math.BigDecimal price,
         int stock,
         boolean active
-    ) {}
+    ) {
+        // La validación de stock reutiliza el snapshot ya obtenido, sin volver a llamar a product-service
+        public boolean hasStock(int requiredQuantity) {
+            return stock >= requiredQuantity;
+        }
+    }
 }
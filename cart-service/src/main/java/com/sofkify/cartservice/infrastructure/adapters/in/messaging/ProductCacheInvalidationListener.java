@@ -0,0 +1,60 @@
+package com.sofkify.cartservice.infrastructure.adapters.in.messaging;
+
+import com.sofkify.cartservice.infrastructure.adapters.out.cache.ProductSnapshotCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Invalida los snapshots de producto cacheados cuando product-service o order-service
+ * publican eventos que alteran el stock (items[].productId). Los eventos llegan en JSON o en CBOR
+ * según el content-type del mensaje.
+ */
+@Component
+public class ProductCacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductCacheInvalidationListener.class);
+
+    private static final String APPLICATION_CBOR = "application/cbor";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper = new CBORMapper();
+    private final ProductSnapshotCache productCache;
+
+    public ProductCacheInvalidationListener(ObjectMapper objectMapper, ProductSnapshotCache productCache) {
+        this.objectMapper = objectMapper;
+        this.productCache = productCache;
+    }
+
+    @RabbitListener(queues = "#{productCacheInvalidationQueue.name}")
+    public void handleStockChanged(Message message) {
+        String contentType = message.getMessageProperties().getContentType();
+        ObjectMapper mapper = contentType != null && contentType.startsWith(APPLICATION_CBOR) ? cborMapper : objectMapper;
+        try {
+            JsonNode items = mapper.readTree(message.getBody()).path("items");
+            List<UUID> productIds = new ArrayList<>();
+            for (JsonNode item : items) {
+                JsonNode productId = item.path("productId");
+                // En CBOR el UUID viaja como binario de 16 bytes; el mapper resuelve ambas formas
+                if (productId.isString() || productId.isBinary()) {
+                    productIds.add(mapper.treeToValue(productId, UUID.class));
+                }
+            }
+            productCache.invalidate(productIds);
+            logger.debug("Invalidated {} cached product snapshots", productIds.size());
+        } catch (JacksonException | IllegalArgumentException e) {
+            // Un evento ilegible no debe reintentarse: el TTL acota la obsolescencia
+            logger.warn("Ignoring unparseable stock event ({}, {} bytes)", contentType, message.getBody().length, e);
+        }
+    }
+}
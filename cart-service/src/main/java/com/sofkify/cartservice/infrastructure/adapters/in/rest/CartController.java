@@ -15,6 +15,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.UUID;
 
 @RestController
@@ -74,14 +76,15 @@ public class CartController {
      * X-Customer-Id: UUID (required) - ID del cliente existente en user-service
      * 
      * Responses:
-     * 200 - Carrito encontrado exitosamente
+     * 200 - Carrito encontrado exitosamente (con ETag)
+     * 304 - Sin cambios respecto al ETag enviado en If-None-Match
      * 404 - Carrito no encontrado para el cliente
      * 500 - Error interno del servidor
      */
     @GetMapping
     public ResponseEntity<CartResponse> getCart(@RequestHeader("X-Customer-Id") UUID customerId) {
         Cart cart = getCartUseCase.getCartByCustomerId(customerId);
-        return ResponseEntity.ok(toCartResponse(cart));
+        return ResponseEntity.ok().eTag(eTag(cart)).body(toCartResponse(cart));
     }
 
     /**
@@ -91,14 +94,15 @@ public class CartController {
      * cartId: UUID (required) - ID del carrito a consultar
      * 
      * Responses:
-     * 200 - Carrito encontrado exitosamente
+     * 200 - Carrito encontrado exitosamente (con ETag)
+     * 304 - Sin cambios respecto al ETag enviado en If-None-Match
      * 404 - Carrito no encontrado
      * 500 - Error interno del servidor
      */
     @GetMapping("/{cartId}")
     public ResponseEntity<CartResponse> getCartById(@PathVariable UUID cartId) {
         Cart cart = getCartUseCase.getCartById(cartId);
-        return ResponseEntity.ok(toCartResponse(cart));
+        return ResponseEntity.ok().eTag(eTag(cart)).body(toCartResponse(cart));
     }
 
     /**
@@ -178,4 +182,12 @@ public class CartController {
             item.getUpdatedAt()
         );
     }
+
+    // ETag fuerte derivado de updated_at con la precisión que guarda PostgreSQL (microsegundos). Incluye el ID
+    // porque GET /api/carts resuelve el carrito por cliente. Con If-None-Match vigente la respuesta es 304
+    private String eTag(Cart cart) {
+        LocalDateTime updatedAt = cart.getUpdatedAt();
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return cart.getId() + "-" + Long.toHexString(micros);
+    }
 }
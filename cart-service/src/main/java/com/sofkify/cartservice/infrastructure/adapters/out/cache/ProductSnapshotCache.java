@@ -0,0 +1,92 @@
+package com.sofkify.cartservice.infrastructure.adapters.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sofkify.cartservice.domain.ports.out.ProductServicePort.ProductInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache local acotado de snapshots de producto obtenidos de product-service.
+ * Las entradas expiran por TTL, se desalojan por tamaño y se invalidan por eventos de stock. Cada snapshot
+ * guarda el ETag de la respuesta para revalidarlo con un GET condicional cuando ya no es lo bastante reciente.
+ */
+@Component
+public class ProductSnapshotCache {
+
+    private static final String CACHE_NAME = "product-snapshots";
+
+    private final Cache<UUID, Snapshot> cache;
+
+    public ProductSnapshotCache(@Value("${product.cache.ttl:60s}") Duration ttl,
+                                @Value("${product.cache.max-size:10000}") long maxSize,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        // Expone cache.gets{result=hit|miss}, cache.evictions, cache.size etiquetados con cache=product-snapshots
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Devuelve el snapshot solo si fue obtenido hace menos de {@code maxAge}.
+     * Un {@code maxAge} de cero omite el cache.
+     */
+    public Optional<ProductInfo> get(UUID productId, Duration maxAge) {
+        if (maxAge.isZero() || maxAge.isNegative()) {
+            return Optional.empty();
+        }
+        Snapshot snapshot = cache.getIfPresent(productId);
+        if (snapshot == null || snapshot.ageNanos() > maxAge.toNanos()) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot.product());
+    }
+
+    public Optional<ProductInfo> get(UUID productId) {
+        return Optional.ofNullable(cache.getIfPresent(productId)).map(Snapshot::product);
+    }
+
+    public void put(ProductInfo product) {
+        put(product, null);
+    }
+
+    public void put(ProductInfo product, String etag) {
+        cache.put(product.id(), new Snapshot(product, etag, System.nanoTime()));
+    }
+
+    public Optional<String> getETag(UUID productId) {
+        return Optional.ofNullable(cache.getIfPresent(productId)).map(Snapshot::etag);
+    }
+
+    /**
+     * Marca como recién obtenido el snapshot cuyo ETag fue confirmado por un 304. Devuelve vacío si el
+     * snapshot fue invalidado o reemplazado mientras tanto.
+     */
+    public Optional<ProductInfo> revalidate(UUID productId, String etag) {
+        Snapshot revalidated = cache.asMap().computeIfPresent(productId, (id, snapshot) ->
+                etag.equals(snapshot.etag()) ? new Snapshot(snapshot.product(), etag, System.nanoTime()) : snapshot);
+        return revalidated != null && etag.equals(revalidated.etag())
+                ? Optional.of(revalidated.product())
+                : Optional.empty();
+    }
+
+    public void invalidate(Collection<UUID> productIds) {
+        cache.invalidateAll(productIds);
+    }
+
+    private record Snapshot(ProductInfo product, String etag, long fetchedAtNanos) {
+        long ageNanos() {
+            return System.nanoTime() - fetchedAtNanos;
+        }
+    }
+}
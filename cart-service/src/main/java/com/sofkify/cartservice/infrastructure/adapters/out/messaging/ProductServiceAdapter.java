@@ -1,11 +1,20 @@
 package com.sofkify.cartservice.infrastructure.adapters.out.messaging;
 
 import com.sofkify.cartservice.domain.ports.out.ProductServicePort;
+import com.sofkify.cartservice.infrastructure.adapters.out.cache.ProductSnapshotCache;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -13,45 +22,73 @@ public class ProductServiceAdapter implements ProductServicePort {
 
     private final RestTemplate restTemplate;
     private final String productServiceUrl;
+    private final ProductSnapshotCache productCache;
+    private final Duration stockMaxStaleness;
 
-    public ProductServiceAdapter(RestTemplate restTemplate,
-                             @Value("${product.service.url:http://localhost:8082}") String productServiceUrl) {
+    public ProductServiceAdapter(@Qualifier("productServiceRestTemplate") RestTemplate restTemplate,
+                             @Value("${product.service.url:http://localhost:8082}") String productServiceUrl,
+                             ProductSnapshotCache productCache,
+                             @Value("${product.cache.stock-max-staleness:5s}") Duration stockMaxStaleness) {
         this.restTemplate = restTemplate;
         this.productServiceUrl = productServiceUrl;
+        this.productCache = productCache;
+        this.stockMaxStaleness = stockMaxStaleness;
     }
 
     @Override
     public ProductInfo getProduct(UUID productId) {
+        return productCache.get(productId)
+                .orElseGet(() -> fetchProduct(productId));
+    }
+
+    @Override
+    public ProductInfo getProductForStockCheck(UUID productId) {
+        // El stock cambia con cada orden: solo se acepta un snapshot más reciente que la ventana configurada
+        return productCache.get(productId, stockMaxStaleness)
+                .orElseGet(() -> fetchProduct(productId));
+    }
+
+    private ProductInfo fetchProduct(UUID productId) {
         try {
             String url = productServiceUrl + "/products/" + productId;
-            ProductResponse response = restTemplate.getForObject(url, ProductResponse.class);
-            
+
+            // Si hay un snapshot vencido se revalida: un 304 no trae cuerpo ni se deserializa
+            String cachedETag = productCache.getETag(productId).orElse(null);
+            HttpHeaders headers = new HttpHeaders();
+            if (cachedETag != null) {
+                headers.setIfNoneMatch(cachedETag);
+            }
+            ResponseEntity<ProductResponse> exchange = restTemplate.exchange(
+                url, HttpMethod.GET, new HttpEntity<>(headers), ProductResponse.class);
+
+            if (cachedETag != null && exchange.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                Optional<ProductInfo> revalidated = productCache.revalidate(productId, cachedETag);
+                if (revalidated.isPresent()) {
+                    return revalidated.get();
+                }
+                // Invalidado entre la consulta y la respuesta: se pide completo
+                exchange = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, ProductResponse.class);
+            }
+
+            ProductResponse response = exchange.getBody();
             if (response == null) {
                 throw new RuntimeException("Product not found: " + productId);
             }
             
-            return new ProductInfo(
+            ProductInfo product = new ProductInfo(
                 response.getProductId(),
                 response.getName(),
                 response.getPrice(),
                 response.getStock(),
                 response.getStatus().equals("ACTIVE")
             );
+            productCache.put(product, exchange.getHeaders().getETag());
+            return product;
         } catch (Exception e) {
             throw new RuntimeException("Error fetching product: " + productId, e);
         }
     }
 
-    @Override
-    public boolean validateStock(UUID productId, int requiredQuantity) {
-        try {
-            ProductInfo product = getProduct(productId);
-            return product.stock() >= requiredQuantity;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     // DTO para respuesta del product-service
     private static class ProductResponse {
         private UUID productId;
@@ -1,58 +1,83 @@
 package com.sofkify.cartservice.infrastructure.adapters.out.messaging;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.sofkify.cartservice.domain.ports.out.UserServicePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.UUID;
 
 @Component
 public class UserServiceAdapter implements UserServicePort {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserServiceAdapter.class);
+
     private final RestTemplate restTemplate;
     private final String userServiceUrl;
+    // true = ACTIVE; false = inactivo, bloqueado o inexistente (caché negativo con TTL propio)
+    private final Cache<UUID, Boolean> activeUsers;
 
-    public UserServiceAdapter(RestTemplate restTemplate,
-                            @Value("${user.service.url:http://localhost:8080/api}") String userServiceUrl) {
+    public UserServiceAdapter(@Qualifier("userServiceRestTemplate") RestTemplate restTemplate,
+                            @Value("${user.service.url:http://localhost:8080/api}") String userServiceUrl,
+                            @Value("${user.cache.active-ttl:60s}") Duration activeTtl,
+                            @Value("${user.cache.inactive-ttl:15s}") Duration inactiveTtl,
+                            @Value("${user.cache.max-size:10000}") long maxSize,
+                            MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
         this.userServiceUrl = userServiceUrl;
+        this.activeUsers = Caffeine.newBuilder()
+                .expireAfter(Expiry.creating((UUID userId, Boolean active) -> active ? activeTtl : inactiveTtl))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, activeUsers, "user-status");
     }
 
     @Override
     public boolean validateUser(UUID userId) {
+        Boolean cached = activeUsers.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            String url = userServiceUrl + "/users/" + userId;
-            UserResponse response = restTemplate.getForObject(url, UserResponse.class);
-            
-            if (response == null) {
-                return false;
-            }
-            
-            return response.active();
+            String url = userServiceUrl + "/users/" + userId + "/status";
+            UserStatusResponse response = restTemplate.getForObject(url, UserStatusResponse.class);
+            boolean active = response != null && response.active();
+            activeUsers.put(userId, active);
+            return active;
+        } catch (HttpClientErrorException.NotFound e) {
+            // Usuario inexistente: respuesta definitiva, se cachea como inactivo
+            activeUsers.put(userId, false);
+            return false;
         } catch (Exception e) {
-            // Si el user-service no está disponible o el usuario no existe
+            // Fallo de transporte o de user-service: se rechaza sin cachear para reintentar en la próxima llamada
+            logger.warn("Could not validate user {} against user-service: {}", userId, e.getMessage());
             return false;
         }
     }
 
-    // DTO para respuesta del user-service
-    private static class UserResponse {
+    // DTO para respuesta de GET /users/{id}/status
+    private static class UserStatusResponse {
         private UUID id;
-        private String name;
-        private String email;
         private String status;
 
         // Getters and Setters
         public UUID getId() { return id; }
         public void setId(UUID id) { this.id = id; }
-        public String getName() { return name; }
-        public void setName(String name) { this.name = name; }
-        public String getEmail() { return email; }
-        public void setEmail(String email) { this.email = email; }
         public String getStatus() { return status; }
         public void setStatus(String status) { this.status = status; }
-        
+
         public boolean active() {
             return "ACTIVE".equals(status);
         }
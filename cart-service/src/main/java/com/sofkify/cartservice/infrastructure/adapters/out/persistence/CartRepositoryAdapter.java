@@ -4,6 +4,7 @@ import com.sofkify.cartservice.domain.model.Cart;
 import com.sofkify.cartservice.domain.ports.out.CartRepositoryPort;
 import com.sofkify.cartservice.infrastructure.mapper.CartMapper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +21,7 @@ public class CartRepositoryAdapter implements CartRepositoryPort {
     }
 
     @Override
+    @Transactional
     public Cart save(Cart cart) {
         CartJpaEntity jpaEntity = cartMapper.toJpaEntity(cart);
         CartJpaEntity savedEntity = cartJpaRepository.save(jpaEntity);
@@ -27,12 +29,14 @@ public class CartRepositoryAdapter implements CartRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Cart> findByCustomerId(UUID customerId) {
         return cartJpaRepository.findByCustomerId(customerId)
                 .map(cartMapper::toDomainEntity);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Cart> findById(UUID cartId) {
         return cartJpaRepository.findById(cartId)
                 .map(cartMapper::toDomainEntity);
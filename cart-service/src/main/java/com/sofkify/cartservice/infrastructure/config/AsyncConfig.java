@@ -0,0 +1,29 @@
+package com.sofkify.cartservice.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // Pool acotado para las consultas concurrentes de agregar item (usuario, producto y carrito)
+    @Bean
+    public ThreadPoolTaskExecutor addItemExecutor(@Value("${cart.add-item.executor.core-size:16}") int coreSize,
+                                                  @Value("${cart.add-item.executor.max-size:32}") int maxSize,
+                                                  @Value("${cart.add-item.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("add-item-");
+        // Con el pool saturado se rechaza (503): ejecutar en el hilo de la petición esquivaría el plazo de add-item
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
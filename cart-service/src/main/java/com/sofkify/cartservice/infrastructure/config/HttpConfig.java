@@ -1,14 +1,85 @@
 package com.sofkify.cartservice.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class HttpConfig {
 
+    // Cada servicio destino tiene su propio pool keep-alive, con límites y timeouts independientes
+
+    @Bean
+    @ConfigurationProperties(prefix = "product.service")
+    public HttpClientProperties productServiceHttpProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "user.service")
+    public HttpClientProperties userServiceHttpProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    public CloseableHttpClient productServiceHttpClient(
+            @Qualifier("productServiceHttpProperties") HttpClientProperties properties,
+            MeterRegistry meterRegistry) {
+        return pooledHttpClient("product-service", properties, meterRegistry);
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CloseableHttpClient userServiceHttpClient(
+            @Qualifier("userServiceHttpProperties") HttpClientProperties properties,
+            MeterRegistry meterRegistry) {
+        return pooledHttpClient("user-service", properties, meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate productServiceRestTemplate(@Qualifier("productServiceHttpClient") CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    @Bean
+    public RestTemplate userServiceRestTemplate(@Qualifier("userServiceHttpClient") CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    private CloseableHttpClient pooledHttpClient(String poolName, HttpClientProperties properties,
+                                                 MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+                        .build())
+                .build();
+
+        // Expone httpcomponents.httpclient.pool.* (leased, pending, available, max) etiquetado por pool
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, poolName).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+                .build();
     }
 }
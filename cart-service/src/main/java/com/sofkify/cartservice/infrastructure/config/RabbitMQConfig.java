@@ -0,0 +1,49 @@
+package com.sofkify.cartservice.infrastructure.config;
+
+import org.springframework.amqp.core.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${rabbitmq.exchanges.order}")
+    private String orderExchange;
+
+    @Value("${rabbitmq.queues.product-cache-invalidation-prefix}")
+    private String productCacheInvalidationQueuePrefix;
+
+    @Value("${rabbitmq.routing-keys.order-created}")
+    private String orderCreatedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.stock-decremented}")
+    private String stockDecrementedRoutingKey;
+
+    @Bean
+    public TopicExchange orderExchange() {
+        return new TopicExchange(orderExchange);
+    }
+
+    // Cola anónima (exclusiva, auto-delete) por instancia: cada réplica invalida su propio cache local
+    @Bean
+    public Queue productCacheInvalidationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(productCacheInvalidationQueuePrefix));
+    }
+
+    @Bean
+    public Binding productCacheOrderCreatedBinding() {
+        return BindingBuilder
+                .bind(productCacheInvalidationQueue())
+                .to(orderExchange())
+                .with(orderCreatedRoutingKey);
+    }
+
+    @Bean
+    public Binding productCacheStockDecrementedBinding() {
+        return BindingBuilder
+                .bind(productCacheInvalidationQueue())
+                .to(orderExchange())
+                .with(stockDecrementedRoutingKey);
+    }
+}
@@ -9,6 +9,7 @@ import com.sofkify.cartservice.infrastructure.adapters.out.persistence.CartStatu
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
@@ -58,15 +59,17 @@ public class CartMapper {
             return null;
         }
 
-        Cart cart = new Cart(jpaEntity.getId(), jpaEntity.getCustomerId());
-        
-        if (jpaEntity.getItems() != null) {
-            jpaEntity.getItems().stream()
-                    .map(this::toDomainEntity)
-                    .forEach(cart::addExistingItem);
-        }
+        List<CartItem> items = jpaEntity.getItems() == null
+                ? List.of()
+                : jpaEntity.getItems().stream().map(this::toDomainEntity).collect(Collectors.toList());
 
-        return cart;
+        return Cart.reconstitute(
+                jpaEntity.getId(),
+                jpaEntity.getCustomerId(),
+                items,
+                jpaEntity.getCreatedAt(),
+                jpaEntity.getUpdatedAt()
+        );
     }
 
     public CartItem toDomainEntity(CartItemJpaEntity jpaEntity) {
@@ -74,12 +77,14 @@ public class CartMapper {
             return null;
         }
 
-        return new CartItem(
+        return CartItem.reconstitute(
                 jpaEntity.getId(),
                 jpaEntity.getProductId(),
                 jpaEntity.getProductName(),
                 jpaEntity.getProductPrice(),
-                jpaEntity.getQuantity()
+                jpaEntity.getQuantity(),
+                jpaEntity.getCreatedAt(),
+                jpaEntity.getUpdatedAt()
         );
     }
 }
@@ -0,0 +1,239 @@
+package com.sofkify.cartservice.application.service;
+
+import com.sofkify.cartservice.domain.exception.CartException;
+import com.sofkify.cartservice.domain.exception.ServiceUnavailableException;
+import com.sofkify.cartservice.domain.model.Cart;
+import com.sofkify.cartservice.domain.ports.out.CartRepositoryPort;
+import com.sofkify.cartservice.domain.ports.out.ProductServicePort;
+import com.sofkify.cartservice.domain.ports.out.UserServicePort;
+import com.sofkify.cartservice.infrastructure.config.AsyncConfig;
+import com.sofkify.cartservice.infrastructure.adapters.out.cache.ProductSnapshotCache;
+import com.sofkify.cartservice.infrastructure.adapters.out.messaging.ProductServiceAdapter;
+import com.sofkify.cartservice.infrastructure.adapters.out.messaging.UserServiceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class AddItemToCartServiceTest {
+
+    private static final String PRODUCT_SERVICE_URL = "http://product-service/api";
+    private static final String USER_SERVICE_URL = "http://user-service/api";
+
+    private final UUID customerId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+
+    private MockRestServiceServer server;
+    private CartRepositoryPort cartRepository;
+    private ProductSnapshotCache productCache;
+    private AddItemToCartService service;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        cartRepository = mock(CartRepositoryPort.class);
+        when(cartRepository.findByCustomerId(customerId)).thenReturn(Optional.empty());
+        when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        productCache = new ProductSnapshotCache(Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+
+        service = new AddItemToCartService(
+            cartRepository,
+            new ProductServiceAdapter(restTemplate, PRODUCT_SERVICE_URL, productCache, Duration.ofSeconds(30)),
+            new UserServiceAdapter(restTemplate, USER_SERVICE_URL,
+                Duration.ofMinutes(1), Duration.ofSeconds(15), 100, new SimpleMeterRegistry()),
+            Runnable::run,
+            Duration.ofSeconds(5)
+        );
+    }
+
+    @Test
+    void addItemFetchesTheProductOnlyOnce() {
+        expectUser("ACTIVE");
+        expectProduct(10);
+
+        Cart cart = service.addItem(customerId, productId, 3);
+
+        server.verify();
+        assertThat(cart.getItems()).hasSize(1);
+        assertThat(cart.getItems().get(0).getQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    void insufficientStockIsDetectedFromTheSameProductSnapshot() {
+        expectUser("ACTIVE");
+        expectProduct(2);
+
+        assertThatThrownBy(() -> service.addItem(customerId, productId, 3))
+            .isInstanceOf(CartException.class)
+            .hasMessageContaining("Insufficient stock");
+
+        server.verify();
+        verify(cartRepository, never()).save(any(Cart.class));
+    }
+
+    @Test
+    void stockCheckReusesRecentSnapshotUntilInvalidated() {
+        expectUser("ACTIVE");
+        expectProduct(10);
+        expectProduct(1);
+
+        service.addItem(customerId, productId, 1);
+        service.addItem(customerId, productId, 1);
+        productCache.invalidate(List.of(productId));
+
+        assertThatThrownBy(() -> service.addItem(customerId, productId, 3))
+            .isInstanceOf(CartException.class)
+            .hasMessageContaining("Insufficient stock");
+        server.verify();
+    }
+
+    @Test
+    void staleStockSnapshotIsRevalidatedWithIfNoneMatch() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer productServer = MockRestServiceServer.bindTo(restTemplate).build();
+        // Sin ventana de obsolescencia: cada validación de stock consulta product-service
+        ProductServiceAdapter adapter = new ProductServiceAdapter(restTemplate, PRODUCT_SERVICE_URL, productCache, Duration.ZERO);
+
+        productServer.expect(once(), requestTo(PRODUCT_SERVICE_URL + "/products/" + productId))
+            .andRespond(withSuccess(productJson(10), MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"7\""));
+        productServer.expect(once(), requestTo(PRODUCT_SERVICE_URL + "/products/" + productId))
+            .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+            .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        adapter.getProductForStockCheck(productId);
+        ProductServicePort.ProductInfo revalidated = adapter.getProductForStockCheck(productId);
+
+        productServer.verify();
+        assertThat(revalidated.stock()).isEqualTo(10);
+    }
+
+    @Test
+    void deadlineExpiresWithServiceUnavailableWithoutWaitingForSlowDependency() {
+        UserServicePort slowUsers = mock(UserServicePort.class);
+        when(slowUsers.validateUser(customerId)).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return true;
+        });
+        ProductServicePort products = mock(ProductServicePort.class);
+        when(products.getProductForStockCheck(productId)).thenReturn(activeProduct(10));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            AddItemToCartService timed = new AddItemToCartService(
+                cartRepository, products, slowUsers, executor, Duration.ofMillis(200));
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> timed.addItem(customerId, productId, 1))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessageContaining("Timed out");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+            verify(cartRepository, never()).save(any(Cart.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void firstFailureIsReportedWithoutWaitingForTheOtherTasks() {
+        UserServicePort slowUsers = mock(UserServicePort.class);
+        when(slowUsers.validateUser(customerId)).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return true;
+        });
+        ProductServicePort products = mock(ProductServicePort.class);
+        when(products.getProductForStockCheck(productId)).thenThrow(new RuntimeException("product-service down"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            AddItemToCartService failing = new AddItemToCartService(
+                cartRepository, products, slowUsers, executor, Duration.ofSeconds(5));
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> failing.addItem(customerId, productId, 1))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("product-service down");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+            verify(cartRepository, never()).save(any(Cart.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void saturatedPoolIsRejectedInsteadOfRunningOnTheCallerThread() {
+        ThreadPoolTaskExecutor executor = new AsyncConfig().addItemExecutor(1, 1, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            AddItemToCartService saturated = new AddItemToCartService(
+                cartRepository, mock(ProductServicePort.class), mock(UserServicePort.class), executor, Duration.ofSeconds(5));
+
+            assertThatThrownBy(() -> saturated.addItem(customerId, productId, 1))
+                .isInstanceOf(ServiceUnavailableException.class);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private ProductServicePort.ProductInfo activeProduct(int stock) {
+        return new ProductServicePort.ProductInfo(productId, "Laptop", new BigDecimal("1299.99"), stock, true);
+    }
+
+    private void expectUser(String status) {
+        server.expect(once(), requestTo(USER_SERVICE_URL + "/users/" + customerId + "/status"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess("""
+                {"id":"%s","status":"%s","active":%s}
+                """.formatted(customerId, status, "ACTIVE".equals(status)), MediaType.APPLICATION_JSON));
+    }
+
+    private void expectProduct(int stock) {
+        server.expect(once(), requestTo(PRODUCT_SERVICE_URL + "/products/" + productId))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess(productJson(stock), MediaType.APPLICATION_JSON));
+    }
+
+    private String productJson(int stock) {
+        return """
+            {"productId":"%s","name":"Laptop","description":"Gaming","price":1299.99,"stock":%d,"status":"ACTIVE"}
+            """.formatted(productId, stock);
+    }
+}
@@ -0,0 +1,20 @@
+package com.sofkify.orderservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sofkify.orderservice.domain.model.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkUpdateOrderStatusRequest(
+    @NotEmpty(message = "Order IDs are required")
+    @Size(max = 1000, message = "A batch cannot contain more than 1000 order IDs")
+    @JsonProperty("orderIds")
+    List<@NotNull(message = "Order ID cannot be null") UUID> orderIds,
+    @NotNull(message = "Status cannot be null")
+    @JsonProperty("status")
+    OrderStatus status
+) {}
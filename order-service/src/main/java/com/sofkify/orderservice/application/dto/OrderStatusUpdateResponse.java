@@ -0,0 +1,13 @@
+package com.sofkify.orderservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.UUID;
+
+public record OrderStatusUpdateResponse(
+    @JsonProperty("orderId")
+    UUID orderId,
+    @JsonProperty("outcome")
+    String outcome,
+    @JsonProperty("status")
+    String status
+) {}
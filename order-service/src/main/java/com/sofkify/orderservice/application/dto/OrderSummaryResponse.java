@@ -0,0 +1,17 @@
+package com.sofkify.orderservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderSummaryResponse(
+    @JsonProperty("id")
+    UUID id,
+    @JsonProperty("status")
+    String status,
+    @JsonProperty("totalAmount")
+    BigDecimal totalAmount,
+    @JsonProperty("createdAt")
+    LocalDateTime createdAt
+) {}
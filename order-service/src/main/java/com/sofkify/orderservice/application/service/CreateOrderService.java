@@ -68,7 +68,7 @@ public class CreateOrderService implements CreateOrderFromCartUseCase {
 
         Order savedOrder = orderRepositoryPort.save(order);
 
-        // Publicar evento de orden creada
+        // Registrar evento de orden creada en el outbox (misma transacción; el relay lo envía tras el commit)
         OrderCreatedEvent event = new OrderCreatedEvent(
                 savedOrder.getId(),
                 savedOrder.getCustomerId(),
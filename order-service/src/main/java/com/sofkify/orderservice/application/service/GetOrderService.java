@@ -1,18 +1,22 @@
 package com.sofkify.orderservice.application.service;
 
 import com.sofkify.orderservice.domain.model.Order;
+import com.sofkify.orderservice.domain.model.OrderCursor;
+import com.sofkify.orderservice.domain.model.OrderPage;
+import com.sofkify.orderservice.domain.model.OrderSummaryPage;
 import com.sofkify.orderservice.domain.ports.in.GetOrderUseCase;
 import com.sofkify.orderservice.domain.ports.in.GetOrdersByCustomerUseCase;
 import com.sofkify.orderservice.domain.ports.out.OrderRepositoryPort;
 import com.sofkify.orderservice.domain.exception.OrderNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.UUID;
 
 @Service
 public class GetOrderService implements GetOrderUseCase, GetOrdersByCustomerUseCase {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepositoryPort orderRepositoryPort;
 
     public GetOrderService(OrderRepositoryPort orderRepositoryPort) {
@@ -26,7 +30,24 @@ public class GetOrderService implements GetOrderUseCase, GetOrdersByCustomerUseC
     }
 
     @Override
-    public List<Order> getOrdersByCustomerId(UUID customerId) {
-        return orderRepositoryPort.findByCustomerId(customerId);
+    public OrderPage getOrdersByCustomerId(UUID customerId, String cursor, int limit) {
+        validateLimit(limit);
+        return orderRepositoryPort.findPageByCustomerId(customerId, parseCursor(cursor), limit);
+    }
+
+    @Override
+    public OrderSummaryPage getOrderSummariesByCustomerId(UUID customerId, String cursor, int limit) {
+        validateLimit(limit);
+        return orderRepositoryPort.findSummaryPageByCustomerId(customerId, parseCursor(cursor), limit);
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private OrderCursor parseCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
     }
 }
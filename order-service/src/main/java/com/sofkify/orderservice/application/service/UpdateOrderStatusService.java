@@ -1,13 +1,23 @@
 package com.sofkify.orderservice.application.service;
 
+import com.sofkify.orderservice.domain.event.OrderStatusChangedEvent;
 import com.sofkify.orderservice.domain.model.Order;
 import com.sofkify.orderservice.domain.model.OrderStatus;
+import com.sofkify.orderservice.domain.model.OrderStatusUpdateResult;
+import com.sofkify.orderservice.domain.model.OrderStatusUpdateResult.Outcome;
 import com.sofkify.orderservice.domain.ports.in.UpdateOrderStatusUseCase;
+import com.sofkify.orderservice.domain.ports.out.EventPublisherPort;
 import com.sofkify.orderservice.domain.ports.out.OrderRepositoryPort;
 import com.sofkify.orderservice.domain.exception.OrderNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -15,18 +25,86 @@ import java.util.UUID;
 public class UpdateOrderStatusService implements UpdateOrderStatusUseCase {
 
     private final OrderRepositoryPort orderRepositoryPort;
+    private final EventPublisherPort eventPublisherPort;
 
-    public UpdateOrderStatusService(OrderRepositoryPort orderRepositoryPort) {
+    public UpdateOrderStatusService(OrderRepositoryPort orderRepositoryPort, EventPublisherPort eventPublisherPort) {
         this.orderRepositoryPort = orderRepositoryPort;
+        this.eventPublisherPort = eventPublisherPort;
     }
 
     @Override
     public Order updateOrderStatus(UUID orderId, OrderStatus newStatus) {
+        transitionOrderStatus(orderId, newStatus);
+        return orderRepositoryPort.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
+
+    @Override
+    public boolean transitionOrderStatus(UUID orderId, OrderStatus newStatus) {
+        Objects.requireNonNull(newStatus, "Order status cannot be null");
+        return transition(orderId, OrderStatus.sourcesFor(newStatus), newStatus);
+    }
+
+    @Override
+    public boolean transitionOrderStatus(UUID orderId, OrderStatus expectedCurrent, OrderStatus newStatus) {
+        Objects.requireNonNull(expectedCurrent, "Expected order status cannot be null");
+        Objects.requireNonNull(newStatus, "Order status cannot be null");
+        Set<OrderStatus> allowedCurrent = expectedCurrent.canTransitionTo(newStatus) ? Set.of(expectedCurrent) : Set.of();
+        return transition(orderId, allowedCurrent, newStatus);
+    }
+
+    // Solo se escribe la fila de la orden: los ítems no se cargan ni se vuelven a guardar
+    private boolean transition(UUID orderId, Set<OrderStatus> allowedCurrent, OrderStatus newStatus) {
+        LocalDateTime changedAt = LocalDateTime.now();
+        if (!allowedCurrent.isEmpty() && orderRepositoryPort.updateStatus(orderId, allowedCurrent, newStatus, changedAt)) {
+            eventPublisherPort.publishOrderStatusChanged(
+                    new OrderStatusChangedEvent(UUID.randomUUID(), List.of(orderId), newStatus, changedAt));
+            return true;
+        }
+
+        // Sin filas actualizadas: la orden no existe, ya estaba en newStatus o su estado actual no admite la transición
         Order order = orderRepositoryPort.findById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
+        if (order.getStatus() == newStatus) {
+            return false;
+        }
+        throw new IllegalStateException(
+                "Cannot change status of order " + orderId + " from " + order.getStatus() + " to " + newStatus);
+    }
+
+    @Override
+    public List<OrderStatusUpdateResult> updateOrderStatuses(List<UUID> orderIds, OrderStatus newStatus) {
+        Objects.requireNonNull(newStatus, "Order status cannot be null");
+        Set<UUID> requested = new LinkedHashSet<>(orderIds);
+        LocalDateTime changedAt = LocalDateTime.now();
+
+        Set<UUID> updated = orderRepositoryPort.updateStatuses(requested, OrderStatus.sourcesFor(newStatus), newStatus, changedAt);
+        // Solo si alguna no se actualizó hace falta otra consulta, para distinguir inexistentes, sin cambios
+        // y transiciones no permitidas
+        Map<UUID, OrderStatus> current = updated.size() == requested.size()
+                ? Map.of()
+                : orderRepositoryPort.findStatuses(requested.stream().filter(id -> !updated.contains(id)).toList());
 
-        order.updateStatus(newStatus);
+        List<OrderStatusUpdateResult> results = requested.stream()
+                .map(id -> {
+                    if (updated.contains(id)) {
+                        return new OrderStatusUpdateResult(id, Outcome.UPDATED, newStatus);
+                    }
+                    OrderStatus status = current.get(id);
+                    if (status == null) {
+                        return new OrderStatusUpdateResult(id, Outcome.NOT_FOUND, null);
+                    }
+                    return status == newStatus
+                            ? new OrderStatusUpdateResult(id, Outcome.UNCHANGED, status)
+                            : new OrderStatusUpdateResult(id, Outcome.INVALID_TRANSITION, status);
+                })
+                .toList();
 
-        return orderRepositoryPort.save(order);
+        // Un único evento para todo el lote, en el outbox de esta misma transacción
+        if (!updated.isEmpty()) {
+            eventPublisherPort.publishOrderStatusChanged(new OrderStatusChangedEvent(
+                    UUID.randomUUID(), requested.stream().filter(updated::contains).toList(), newStatus, changedAt));
+        }
+        return results;
     }
 }
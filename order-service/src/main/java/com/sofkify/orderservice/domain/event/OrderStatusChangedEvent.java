@@ -0,0 +1,31 @@
+package com.sofkify.orderservice.domain.event;
+
+import com.sofkify.orderservice.domain.model.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cambio de estado de una o varias órdenes al mismo estado. Una actualización masiva genera un único
+ * evento con todas las órdenes afectadas.
+ */
+public class OrderStatusChangedEvent {
+    private final UUID eventId;
+    private final List<UUID> orderIds;
+    private final OrderStatus status;
+    private final LocalDateTime changedAt;
+
+    public OrderStatusChangedEvent(UUID eventId, List<UUID> orderIds, OrderStatus status, LocalDateTime changedAt) {
+        this.eventId = eventId;
+        this.orderIds = orderIds;
+        this.status = status;
+        this.changedAt = changedAt;
+    }
+
+    // Getters
+    public UUID getEventId() { return eventId; }
+    public List<UUID> getOrderIds() { return orderIds; }
+    public OrderStatus getStatus() { return status; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
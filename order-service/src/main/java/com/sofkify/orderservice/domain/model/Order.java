@@ -16,6 +16,7 @@ public class Order {
     private final List<OrderItem> items;
     private final BigDecimal totalAmount;
     private final LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 
     public Order(UUID id, UUID cartId, UUID customerId, List<OrderItem> items) {
         this.id = Objects.requireNonNull(id, "Order ID cannot be null");
@@ -30,6 +31,34 @@ public class Order {
         this.status = OrderStatus.PENDING_PAYMENT;
         this.totalAmount = calculateTotalAmount();
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    private Order(UUID id, UUID cartId, UUID customerId, OrderStatus status, List<OrderItem> items,
+                  BigDecimal totalAmount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.cartId = cartId;
+        this.customerId = customerId;
+        this.status = status;
+        this.items = new ArrayList<>(items);
+        this.totalAmount = totalAmount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Reconstrucción desde persistencia: conserva el estado, el total y las fechas guardadas sin recalcularlos
+    public static Order reconstitute(UUID id, UUID cartId, UUID customerId, OrderStatus status, List<OrderItem> items,
+                                     BigDecimal totalAmount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Order(
+                Objects.requireNonNull(id, "Order ID cannot be null"),
+                Objects.requireNonNull(cartId, "Cart ID cannot be null"),
+                Objects.requireNonNull(customerId, "Customer ID cannot be null"),
+                Objects.requireNonNull(status, "Order status cannot be null"),
+                Objects.requireNonNull(items, "Order items cannot be null"),
+                totalAmount,
+                createdAt,
+                updatedAt
+        );
     }
 
     private BigDecimal calculateTotalAmount() {
@@ -40,13 +69,17 @@ public class Order {
 
     public void updateStatus(OrderStatus newStatus) {
         Objects.requireNonNull(newStatus, "Order status cannot be null");
-        
+        if (status == newStatus) {
+            return;
+        }
+
         // Validar transiciones de estado permitidas
-        if (status == OrderStatus.CANCELLED && newStatus != OrderStatus.CANCELLED) {
+        if (!status.canTransitionTo(newStatus)) {
             throw new IllegalStateException("Cannot change status of cancelled order");
         }
         
         this.status = newStatus;
+        this.updatedAt = LocalDateTime.now();
     }
 
     // Getters
@@ -57,6 +90,7 @@ public class Order {
     public List<OrderItem> getItems() { return Collections.unmodifiableList(items); }
     public BigDecimal getTotalAmount() { return totalAmount; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
 
     @Override
     public boolean equals(Object o) {
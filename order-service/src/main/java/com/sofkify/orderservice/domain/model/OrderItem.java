@@ -35,6 +35,31 @@ public class OrderItem {
         this.createdAt = LocalDateTime.now();
     }
 
+    private OrderItem(UUID id, UUID productId, String productName, BigDecimal productPrice, int quantity,
+                      BigDecimal subtotal, LocalDateTime createdAt) {
+        this.id = id;
+        this.productId = productId;
+        this.productName = productName;
+        this.productPrice = productPrice;
+        this.quantity = quantity;
+        this.subtotal = subtotal;
+        this.createdAt = createdAt;
+    }
+
+    // Reconstrucción desde persistencia: el subtotal y la fecha guardados se usan tal cual
+    public static OrderItem reconstitute(UUID id, UUID productId, String productName, BigDecimal productPrice,
+                                         int quantity, BigDecimal subtotal, LocalDateTime createdAt) {
+        return new OrderItem(
+                Objects.requireNonNull(id, "Order item ID cannot be null"),
+                Objects.requireNonNull(productId, "Product ID cannot be null"),
+                productName,
+                productPrice,
+                quantity,
+                subtotal,
+                createdAt
+        );
+    }
+
     // Getters
     public UUID getId() { return id; }
     public UUID getProductId() { return productId; }
@@ -0,0 +1,13 @@
+package com.sofkify.orderservice.domain.model;
+
+import java.util.List;
+
+/**
+ * Página del historial de órdenes de un cliente, de la más reciente a la más antigua. {@code nextCursor}
+ * apunta a la última orden de la página (se envía para pedir la siguiente) y es null en la última página.
+ */
+public record OrderPage(
+    List<Order> orders,
+    OrderCursor nextCursor
+) {
+}
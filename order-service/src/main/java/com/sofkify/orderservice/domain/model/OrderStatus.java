@@ -1,5 +1,8 @@
 package com.sofkify.orderservice.domain.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     PENDING_PAYMENT,
     PAID,
@@ -7,5 +10,22 @@ public enum OrderStatus {
     SHIPPED,
     DELIVERED,
     CANCELLED,
-    FAILED
+    FAILED;
+
+    // Transiciones permitidas: una orden cancelada no puede pasar a otro estado. Quedarse en el mismo
+    // estado no es una transición (no cambia la orden ni genera evento)
+    public boolean canTransitionTo(OrderStatus target) {
+        return this != CANCELLED && this != target;
+    }
+
+    // Estados desde los que se puede llegar a target; la actualización condicional los usa como predicado
+    public static Set<OrderStatus> sourcesFor(OrderStatus target) {
+        Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
@@ -0,0 +1,22 @@
+package com.sofkify.orderservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Resultado de una orden dentro de una actualización masiva de estado. {@code status} es el estado de
+ * la orden tras la operación (null si no existe).
+ */
+public record OrderStatusUpdateResult(
+    UUID orderId,
+    Outcome outcome,
+    OrderStatus status
+) {
+
+    public enum Outcome {
+        UPDATED,
+        // Ya estaba en el estado pedido: no se escribe ni se incluye en el evento
+        UNCHANGED,
+        NOT_FOUND,
+        INVALID_TRANSITION
+    }
+}
@@ -0,0 +1,16 @@
+package com.sofkify.orderservice.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Vista de lectura de una orden para listados: solo la cabecera, sin ítems.
+ */
+public record OrderSummary(
+    UUID id,
+    OrderStatus status,
+    BigDecimal totalAmount,
+    LocalDateTime createdAt
+) {
+}
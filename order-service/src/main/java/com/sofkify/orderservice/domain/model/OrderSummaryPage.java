@@ -0,0 +1,12 @@
+package com.sofkify.orderservice.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de resúmenes del historial de un cliente, con el mismo orden y cursor que {@link OrderPage}.
+ */
+public record OrderSummaryPage(
+    List<OrderSummary> summaries,
+    OrderCursor nextCursor
+) {
+}
@@ -1,9 +1,18 @@
 package com.sofkify.orderservice.domain.ports.in;
 
-import com.sofkify.orderservice.domain.model.Order;
-import java.util.List;
+import com.sofkify.orderservice.domain.model.OrderPage;
+import com.sofkify.orderservice.domain.model.OrderSummaryPage;
 import java.util.UUID;
 
 public interface GetOrdersByCustomerUseCase {
-    List<Order> getOrdersByCustomerId(UUID customerId);
+    /**
+     * Historial de órdenes del cliente, de la más reciente a la más antigua.
+     * @param cursor token devuelto con la página anterior (null = primera página)
+     */
+    OrderPage getOrdersByCustomerId(UUID customerId, String cursor, int limit);
+
+    /**
+     * Mismo historial que {@link #getOrdersByCustomerId}, solo con la cabecera de cada orden (sin ítems).
+     */
+    OrderSummaryPage getOrderSummariesByCustomerId(UUID customerId, String cursor, int limit);
 }
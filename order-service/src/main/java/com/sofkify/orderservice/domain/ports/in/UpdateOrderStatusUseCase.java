@@ -2,8 +2,30 @@ package com.sofkify.orderservice.domain.ports.in;
 
 import com.sofkify.orderservice.domain.model.Order;
 import com.sofkify.orderservice.domain.model.OrderStatus;
+import com.sofkify.orderservice.domain.model.OrderStatusUpdateResult;
+import java.util.List;
 import java.util.UUID;
 
 public interface UpdateOrderStatusUseCase {
     Order updateOrderStatus(UUID orderId, OrderStatus newStatus);
+
+    /**
+     * Aplica la transición sin cargar ni devolver la orden (una sola sentencia UPDATE condicional).
+     * @return false si la orden ya estaba en {@code newStatus} (sin cambios ni evento)
+     */
+    boolean transitionOrderStatus(UUID orderId, OrderStatus newStatus);
+
+    /**
+     * Como {@link #transitionOrderStatus(UUID, OrderStatus)}, pero solo desde {@code expectedCurrent}.
+     * La saga lo usa para que un evento tardío o repetido no mueva una orden que ya avanzó.
+     * @return false si la orden ya estaba en {@code newStatus} (sin cambios ni evento)
+     */
+    boolean transitionOrderStatus(UUID orderId, OrderStatus expectedCurrent, OrderStatus newStatus);
+
+    /**
+     * Aplica la misma transición a varias órdenes con las reglas de {@link OrderStatus#canTransitionTo}.
+     * Las órdenes inexistentes o en un estado que no lo permite no impiden actualizar el resto.
+     * @return un resultado por ID (sin repetidos), en el orden recibido
+     */
+    List<OrderStatusUpdateResult> updateOrderStatuses(List<UUID> orderIds, OrderStatus newStatus);
 }
@@ -1,7 +1,9 @@
 package com.sofkify.orderservice.domain.ports.out;
 
 import com.sofkify.orderservice.domain.event.OrderCreatedEvent;
+import com.sofkify.orderservice.domain.event.OrderStatusChangedEvent;
 
 public interface EventPublisherPort {
     void publishOrderCreated(OrderCreatedEvent event);
+    void publishOrderStatusChanged(OrderStatusChangedEvent event);
 }
@@ -1,13 +1,50 @@
 package com.sofkify.orderservice.domain.ports.out;
 
 import com.sofkify.orderservice.domain.model.Order;
-import java.util.List;
+import com.sofkify.orderservice.domain.model.OrderCursor;
+import com.sofkify.orderservice.domain.model.OrderPage;
+import com.sofkify.orderservice.domain.model.OrderStatus;
+import com.sofkify.orderservice.domain.model.OrderSummaryPage;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface OrderRepositoryPort {
     Order save(Order order);
     Optional<Order> findById(UUID orderId);
-    List<Order> findByCustomerId(UUID customerId);
+
+    /**
+     * Hasta {@code limit} órdenes del cliente posteriores a {@code after} en orden descendente de
+     * creación, con sus ítems.
+     * @param after cursor exclusivo (null = desde la más reciente)
+     */
+    OrderPage findPageByCustomerId(UUID customerId, OrderCursor after, int limit);
+
+    /**
+     * Como {@link #findPageByCustomerId} pero solo con la cabecera de cada orden, sin leer sus ítems.
+     */
+    OrderSummaryPage findSummaryPageByCustomerId(UUID customerId, OrderCursor after, int limit);
+
     boolean existsByCartId(UUID cartId);
+
+    /**
+     * Cambia solo el estado y la fecha de actualización, si el estado actual está en {@code allowedCurrent}.
+     * @return false si la orden no existe o su estado actual no permite la transición
+     */
+    boolean updateStatus(UUID orderId, Set<OrderStatus> allowedCurrent, OrderStatus newStatus, LocalDateTime updatedAt);
+
+    /**
+     * Versión masiva de {@link #updateStatus}: una sola sentencia para todas las órdenes.
+     * @return IDs de las órdenes actualizadas
+     */
+    Set<UUID> updateStatuses(Collection<UUID> orderIds, Set<OrderStatus> allowedCurrent, OrderStatus newStatus,
+                             LocalDateTime updatedAt);
+
+    /**
+     * Estado actual de las órdenes indicadas; las inexistentes no aparecen en el resultado.
+     */
+    Map<UUID, OrderStatus> findStatuses(Collection<UUID> orderIds);
 }
@@ -0,0 +1,82 @@
+package com.sofkify.orderservice.infrastructure.adapters.in.messaging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sofkify.orderservice.domain.exception.OrderNotFoundException;
+import com.sofkify.orderservice.domain.model.OrderStatus;
+import com.sofkify.orderservice.domain.ports.in.UpdateOrderStatusUseCase;
+import com.sofkify.orderservice.infrastructure.config.EventMessageConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Cierra la saga de la orden: StockDecremented la confirma y OrderFailed la cancela, solo si la orden
+ * sigue en PENDING_PAYMENT. Un evento repetido o tardío no cambia una orden que ya avanzó.
+ */
+@Component
+public class RabbitMQOrderStatusConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RabbitMQOrderStatusConsumer.class);
+
+    private final EventMessageConverter eventMessageConverter;
+    private final UpdateOrderStatusUseCase updateOrderStatusUseCase;
+    private final String stockDecrementedRoutingKey;
+    private final String orderFailedRoutingKey;
+
+    public RabbitMQOrderStatusConsumer(EventMessageConverter eventMessageConverter,
+                                       UpdateOrderStatusUseCase updateOrderStatusUseCase,
+                                       @Value("${rabbitmq.routing-keys.stock-decremented}") String stockDecrementedRoutingKey,
+                                       @Value("${rabbitmq.routing-keys.order-failed}") String orderFailedRoutingKey) {
+        this.eventMessageConverter = eventMessageConverter;
+        this.updateOrderStatusUseCase = updateOrderStatusUseCase;
+        this.stockDecrementedRoutingKey = stockDecrementedRoutingKey;
+        this.orderFailedRoutingKey = orderFailedRoutingKey;
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.order-status}", containerFactory = "orderStatusListenerContainerFactory")
+    public void handleOrderStatusEvent(Message message, @Header(AmqpHeaders.RECEIVED_ROUTING_KEY) String routingKey) {
+        OrderStatus newStatus = statusFor(routingKey);
+        UUID orderId = parseOrderId(message);
+
+        try {
+            if (updateOrderStatusUseCase.transitionOrderStatus(orderId, OrderStatus.PENDING_PAYMENT, newStatus)) {
+                logger.info("Order {} moved to {} after {}", orderId, newStatus, routingKey);
+            } else {
+                logger.debug("Order {} already {}: duplicate {} ignored", orderId, newStatus, routingKey);
+            }
+        } catch (OrderNotFoundException | IllegalStateException e) {
+            // Reintentar no cambia el resultado: se descarta el mensaje
+            logger.warn("Ignoring {} for order {}: {}", routingKey, orderId, e.getMessage());
+        }
+    }
+
+    private OrderStatus statusFor(String routingKey) {
+        if (stockDecrementedRoutingKey.equals(routingKey)) {
+            return OrderStatus.CONFIRMED;
+        }
+        if (orderFailedRoutingKey.equals(routingKey)) {
+            return OrderStatus.CANCELLED;
+        }
+        throw new AmqpRejectAndDontRequeueException("Unexpected routing key on order status queue: " + routingKey);
+    }
+
+    // JSON o CBOR según el content-type del mensaje
+    private UUID parseOrderId(Message message) {
+        try {
+            JsonNode orderId = eventMessageConverter.decode(message, JsonNode.class).path("orderId");
+            return UUID.fromString(orderId.asText());
+        } catch (Exception e) {
+            logger.error("Error parsing order status message ({}, {} bytes)",
+                    message.getMessageProperties().getContentType(), message.getBody().length, e);
+            throw new AmqpRejectAndDontRequeueException("Unparseable order status message", e);
+        }
+    }
+}
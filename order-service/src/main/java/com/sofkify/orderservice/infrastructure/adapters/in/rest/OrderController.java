@@ -1,9 +1,16 @@
 package com.sofkify.orderservice.infrastructure.adapters.in.rest;
 
+import com.sofkify.orderservice.application.dto.BulkUpdateOrderStatusRequest;
 import com.sofkify.orderservice.application.dto.OrderItemResponse;
 import com.sofkify.orderservice.application.dto.OrderResponse;
+import com.sofkify.orderservice.application.dto.OrderStatusUpdateResponse;
+import com.sofkify.orderservice.application.dto.OrderSummaryResponse;
 import com.sofkify.orderservice.application.dto.UpdateOrderStatusRequest;
 import com.sofkify.orderservice.domain.model.Order;
+import com.sofkify.orderservice.domain.model.OrderPage;
+import com.sofkify.orderservice.domain.model.OrderStatusUpdateResult;
+import com.sofkify.orderservice.domain.model.OrderSummary;
+import com.sofkify.orderservice.domain.model.OrderSummaryPage;
 import com.sofkify.orderservice.domain.ports.in.CreateOrderFromCartUseCase;
 import com.sofkify.orderservice.domain.ports.in.GetOrderUseCase;
 import com.sofkify.orderservice.domain.ports.in.GetOrdersByCustomerUseCase;
@@ -20,6 +27,8 @@ import java.util.UUID;
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CreateOrderFromCartUseCase createOrderFromCartUseCase;
     private final GetOrderUseCase getOrderUseCase;
     private final GetOrdersByCustomerUseCase getOrdersByCustomerUseCase;
@@ -63,13 +72,17 @@ public class OrderController {
      * 
      * Responses:
      * 200 - Orden encontrada exitosamente
+     * 304 - La orden no cambió desde el ETag enviado en If-None-Match
      * 404 - Orden no encontrada
      * 500 - Error interno del servidor
      */
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponse> getOrder(@PathVariable UUID orderId) {
         Order order = getOrderUseCase.getOrderById(orderId);
-        return ResponseEntity.ok(toOrderResponse(order));
+        // Los ítems y totales de una orden no cambian tras crearla: el estado es lo único que puede variar
+        return ResponseEntity.ok()
+                .eTag(order.getStatus().name())
+                .body(toOrderResponse(order));
     }
 
     /**
@@ -78,18 +91,54 @@ public class OrderController {
      * Path variable:
      * customerId: UUID (required) - ID del cliente
      * 
+     * Query params:
+     * cursor: String (optional) - valor de X-Next-Cursor de la página anterior
+     * limit: int (optional, default 20, máximo 100) - órdenes por página
+     * 
      * Responses:
-     * 200 - Lista de órdenes del cliente
+     * 200 - Órdenes del cliente, de la más reciente a la más antigua; X-Next-Cursor si hay más
+     * 400 - Cursor o límite inválido
      * 500 - Error interno del servidor
      */
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<OrderResponse>> getOrdersByCustomer(@PathVariable UUID customerId) {
-        List<Order> orders = getOrdersByCustomerUseCase.getOrdersByCustomerId(customerId);
-        return ResponseEntity.ok(orders.stream()
+    public ResponseEntity<List<OrderResponse>> getOrdersByCustomer(@PathVariable UUID customerId,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int limit) {
+        OrderPage page = getOrdersByCustomerUseCase.getOrdersByCustomerId(customerId, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().encode());
+        }
+        return response.body(page.orders().stream()
                 .map(this::toOrderResponse)
                 .toList());
     }
 
+    /**
+     * GET /api/orders/customer/{customerId}?view=summary
+     * 
+     * Mismo historial, cursor y límites que el listado completo, pero cada orden se devuelve solo con
+     * id, estado, total y fecha; los ítems no se leen de la base.
+     * 
+     * Responses:
+     * 200 - Resúmenes de las órdenes del cliente; X-Next-Cursor si hay más
+     * 400 - Cursor o límite inválido
+     * 500 - Error interno del servidor
+     */
+    @GetMapping(value = "/customer/{customerId}", params = "view=summary")
+    public ResponseEntity<List<OrderSummaryResponse>> getOrderSummariesByCustomer(@PathVariable UUID customerId,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "20") int limit) {
+        OrderSummaryPage page = getOrdersByCustomerUseCase.getOrderSummariesByCustomerId(customerId, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().encode());
+        }
+        return response.body(page.summaries().stream()
+                .map(this::toOrderSummaryResponse)
+                .toList());
+    }
+
     /**
      * PUT /api/orders/{orderId}/status
      * 
@@ -114,6 +163,29 @@ public class OrderController {
         return ResponseEntity.ok(toOrderResponse(order));
     }
 
+    /**
+     * PUT /api/orders/status
+     * 
+     * Request body:
+     * {
+     *   "orderIds": ["uuid", ...],   (máximo 1000)
+     *   "status": "SHIPPED"
+     * }
+     * 
+     * Responses:
+     * 200 - Resultado por orden: UPDATED, UNCHANGED, NOT_FOUND o INVALID_TRANSITION
+     * 400 - Petición inválida
+     * 500 - Error interno del servidor
+     */
+    @PutMapping("/status")
+    public ResponseEntity<List<OrderStatusUpdateResponse>> updateOrderStatuses(
+            @Valid @RequestBody BulkUpdateOrderStatusRequest request) {
+        return ResponseEntity.ok(updateOrderStatusUseCase.updateOrderStatuses(request.orderIds(), request.status())
+                .stream()
+                .map(this::toOrderStatusUpdateResponse)
+                .toList());
+    }
+
     private OrderResponse toOrderResponse(Order order) {
         return new OrderResponse(
                 order.getId(),
@@ -128,6 +200,23 @@ public class OrderController {
         );
     }
 
+    private OrderSummaryResponse toOrderSummaryResponse(OrderSummary summary) {
+        return new OrderSummaryResponse(
+                summary.id(),
+                summary.status().name(),
+                summary.totalAmount(),
+                summary.createdAt()
+        );
+    }
+
+    private OrderStatusUpdateResponse toOrderStatusUpdateResponse(OrderStatusUpdateResult result) {
+        return new OrderStatusUpdateResponse(
+                result.orderId(),
+                result.outcome().name(),
+                result.status() != null ? result.status().name() : null
+        );
+    }
+
     private OrderItemResponse toOrderItemResponse(com.sofkify.orderservice.domain.model.OrderItem item) {
         return new OrderItemResponse(
                 item.getId(),
@@ -1,50 +1,87 @@
 package com.sofkify.orderservice.infrastructure.adapters.out.messaging;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sofkify.orderservice.domain.event.OrderCreatedEvent;
-import com.sofkify.orderservice.domain.ports.out.EventPublisherPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Envía al exchange de órdenes los eventos ya serializados que drena el relay del outbox.
+ * Usa publisher confirms correlacionados: cada envío devuelve un future que se completa con el
+ * ack/nack del broker, sin bloquear por mensaje. Un mensaje devuelto por no ser enrutable cuenta como nack.
+ */
 @Component
-public class RabbitMQEventPublisherAdapter implements EventPublisherPort {
+public class RabbitMQEventPublisherAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(RabbitMQEventPublisherAdapter.class);
 
     private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
     private final String orderExchange;
-    private final String orderCreatedRoutingKey;
+    // Envíos pendientes de confirmación, por id de correlación (id del evento en el outbox)
+    private final Map<String, CorrelationData> inFlight = new ConcurrentHashMap<>();
+    private final Counter confirmedCounter;
+    private final Counter nackedCounter;
 
     public RabbitMQEventPublisherAdapter(RabbitTemplate rabbitTemplate,
-                                        ObjectMapper objectMapper,
                                         @Value("${rabbitmq.exchanges.order}") String orderExchange,
-                                        @Value("${rabbitmq.routing-keys.order-created}") String orderCreatedRoutingKey) {
+                                        MeterRegistry meterRegistry) {
         this.rabbitTemplate = rabbitTemplate;
-        this.objectMapper = objectMapper;
         this.orderExchange = orderExchange;
-        this.orderCreatedRoutingKey = orderCreatedRoutingKey;
+        Gauge.builder("order.events.publisher.in-flight", inFlight, Map::size)
+                .description("Eventos enviados a RabbitMQ pendientes de confirmación")
+                .register(meterRegistry);
+        this.confirmedCounter = Counter.builder("order.events.publisher.confirms")
+                .tag("result", "ack")
+                .register(meterRegistry);
+        this.nackedCounter = Counter.builder("order.events.publisher.confirms")
+                .tag("result", "nack")
+                .register(meterRegistry);
     }
 
-    @Override
-    public void publishOrderCreated(OrderCreatedEvent event) {
+    /**
+     * Publica el evento y devuelve un future que se completa con {@code true} si el broker lo confirmó
+     * y {@code false} si lo rechazó, lo devolvió o el canal se cerró antes de confirmar.
+     */
+    public CompletableFuture<Boolean> publishAsync(String correlationId, String routingKey, byte[] body, String contentType) {
+        CorrelationData correlation = new CorrelationData(correlationId);
+        inFlight.put(correlationId, correlation);
+
+        CompletableFuture<Boolean> confirmed = correlation.getFuture().handle((confirm, error) -> {
+            inFlight.remove(correlationId);
+            boolean ack = error == null && confirm.ack() && correlation.getReturned() == null;
+            if (ack) {
+                confirmedCounter.increment();
+            } else {
+                nackedCounter.increment();
+                logger.warn("Event {} not confirmed by broker: {}", correlationId,
+                        error != null ? error.getMessage()
+                                : correlation.getReturned() != null ? "returned as unroutable" : confirm.reason());
+            }
+            return ack;
+        });
+
         try {
-            String eventJson = objectMapper.writeValueAsString(event);
-            logger.info("Publishing OrderCreatedEvent: {}", event.getOrderId());
-            
-            rabbitTemplate.convertAndSend(orderExchange, orderCreatedRoutingKey, eventJson);
-            
-            logger.info("OrderCreatedEvent published successfully for order: {}", event.getOrderId());
-        } catch (JsonProcessingException e) {
-            logger.error("Error serializing OrderCreatedEvent for order: {}", event.getOrderId(), e);
-            throw new RuntimeException("Failed to serialize OrderCreatedEvent", e);
+            // El cuerpo ya viene codificado desde el outbox: se envía sin pasar por el conversor
+            MessageProperties properties = new MessageProperties();
+            properties.setContentType(contentType);
+            properties.setContentLength(body.length);
+            properties.setMessageId(correlationId);
+            rabbitTemplate.send(orderExchange, routingKey, new Message(body, properties), correlation);
         } catch (Exception e) {
-            logger.error("Error publishing OrderCreatedEvent for order: {}", event.getOrderId(), e);
-            throw new RuntimeException("Failed to publish OrderCreatedEvent", e);
+            // Sin conexión o canal: no llegará confirmación, se resuelve como nack
+            correlation.getFuture().completeExceptionally(e);
         }
+        return confirmed;
     }
 }
@@ -0,0 +1,71 @@
+package com.sofkify.orderservice.infrastructure.adapters.out.outbox;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_events_next_attempt_at", columnList = "next_attempt_at"))
+public class OutboxEventJpaEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    // Evento ya codificado con el content-type configurado (JSON o CBOR): el relay lo envía tal cual
+    @Column(name = "body", nullable = false)
+    private byte[] body;
+
+    @Column(name = "content_type", nullable = false, length = 50)
+    private String contentType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Default constructor for JPA
+    public OutboxEventJpaEntity() {
+    }
+
+    public OutboxEventJpaEntity(UUID id, UUID aggregateId, String eventType, String routingKey,
+                                byte[] body, String contentType, LocalDateTime createdAt) {
+        this.id = id;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.routingKey = routingKey;
+        this.body = body;
+        this.contentType = contentType;
+        this.createdAt = createdAt;
+        this.attempts = 0;
+        this.nextAttemptAt = createdAt;
+    }
+
+    // Getters
+    public UUID getId() { return id; }
+    public UUID getAggregateId() { return aggregateId; }
+    public String getEventType() { return eventType; }
+    public String getRoutingKey() { return routingKey; }
+    public byte[] getBody() { return body; }
+    public String getContentType() { return contentType; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public int getAttempts() { return attempts; }
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+
+    // Setters (reintentos del relay)
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+}
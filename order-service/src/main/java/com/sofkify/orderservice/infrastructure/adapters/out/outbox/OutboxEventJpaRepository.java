@@ -0,0 +1,25 @@
+package com.sofkify.orderservice.infrastructure.adapters.out.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, UUID> {
+
+    // SKIP LOCKED: varias réplicas del relay drenan lotes distintos en paralelo sin esperarse entre sí.
+    // Los eventos rechazados por el broker esperan hasta next_attempt_at (backoff).
+    @Query(value = """
+        SELECT * FROM outbox_events
+        WHERE next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEventJpaEntity> lockNextBatch(@Param("limit") int limit, @Param("now") LocalDateTime now);
+}
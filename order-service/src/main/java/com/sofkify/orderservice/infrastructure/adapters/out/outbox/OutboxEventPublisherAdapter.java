@@ -0,0 +1,84 @@
+package com.sofkify.orderservice.infrastructure.adapters.out.outbox;
+
+import com.sofkify.orderservice.domain.event.OrderCreatedEvent;
+import com.sofkify.orderservice.domain.event.OrderStatusChangedEvent;
+import com.sofkify.orderservice.domain.ports.out.EventPublisherPort;
+import com.sofkify.orderservice.infrastructure.config.EventMessageConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Publica eventos escribiéndolos en la tabla outbox dentro de la transacción de negocio.
+ * El envío al broker lo hace {@link OutboxRelay} después del commit.
+ */
+@Component
+public class OutboxEventPublisherAdapter implements EventPublisherPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxEventPublisherAdapter.class);
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final EventMessageConverter eventMessageConverter;
+    private final String orderCreatedRoutingKey;
+    private final String orderStatusChangedRoutingKey;
+
+    public OutboxEventPublisherAdapter(OutboxEventJpaRepository outboxRepository,
+                                       EventMessageConverter eventMessageConverter,
+                                       @Value("${rabbitmq.routing-keys.order-created}") String orderCreatedRoutingKey,
+                                       @Value("${rabbitmq.routing-keys.order-status-changed}") String orderStatusChangedRoutingKey) {
+        this.outboxRepository = outboxRepository;
+        this.eventMessageConverter = eventMessageConverter;
+        this.orderCreatedRoutingKey = orderCreatedRoutingKey;
+        this.orderStatusChangedRoutingKey = orderStatusChangedRoutingKey;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderCreated(OrderCreatedEvent event) {
+        try {
+            byte[] body = eventMessageConverter.encode(event);
+            outboxRepository.save(new OutboxEventJpaEntity(
+                    UUID.randomUUID(),
+                    event.getOrderId(),
+                    "OrderCreated",
+                    orderCreatedRoutingKey,
+                    body,
+                    eventMessageConverter.getContentType(),
+                    LocalDateTime.now()
+            ));
+            logger.info("OrderCreatedEvent stored in outbox for order: {}", event.getOrderId());
+        } catch (MessageConversionException e) {
+            logger.error("Error serializing OrderCreatedEvent for order: {}", event.getOrderId(), e);
+            throw new RuntimeException("Failed to serialize OrderCreatedEvent", e);
+        }
+    }
+
+    // Una sola fila de outbox (y un solo mensaje) por cambio, aunque afecte a muchas órdenes
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderStatusChanged(OrderStatusChangedEvent event) {
+        try {
+            byte[] body = eventMessageConverter.encode(event);
+            outboxRepository.save(new OutboxEventJpaEntity(
+                    UUID.randomUUID(),
+                    event.getEventId(),
+                    "OrderStatusChanged",
+                    orderStatusChangedRoutingKey,
+                    body,
+                    eventMessageConverter.getContentType(),
+                    LocalDateTime.now()
+            ));
+            logger.info("OrderStatusChangedEvent stored in outbox: {} orders to {}", event.getOrderIds().size(), event.getStatus());
+        } catch (MessageConversionException e) {
+            logger.error("Error serializing OrderStatusChangedEvent {}", event.getEventId(), e);
+            throw new RuntimeException("Failed to serialize OrderStatusChangedEvent", e);
+        }
+    }
+}
@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "idx_orders_customer_created_at", columnList = "customer_id, created_at, id"))
 public class OrderJpaEntity {
 
     @Id
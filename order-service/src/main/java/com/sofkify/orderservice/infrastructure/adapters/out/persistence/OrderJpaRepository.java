@@ -1,8 +1,17 @@
 package com.sofkify.orderservice.infrastructure.adapters.out.persistence;
 
+import com.sofkify.orderservice.domain.model.OrderStatus;
+import com.sofkify.orderservice.domain.model.OrderSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,8 +20,65 @@ import java.util.UUID;
 public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID> {
     
     Optional<OrderJpaEntity> findByCartId(UUID cartId);
-    
-    List<OrderJpaEntity> findByCustomerId(UUID customerId);
-    
+
+    @Query("""
+            SELECT new com.sofkify.orderservice.infrastructure.adapters.out.persistence.OrderKey(o.id, o.createdAt)
+            FROM OrderJpaEntity o
+            WHERE o.customerId = :customerId
+            ORDER BY o.createdAt DESC, o.id DESC
+            """)
+    List<OrderKey> findKeysByCustomerId(@Param("customerId") UUID customerId, Limit limit);
+
+    // La primera condición acota el rango en el índice (customer_id, created_at, id); la segunda desempata
+    @Query("""
+            SELECT new com.sofkify.orderservice.infrastructure.adapters.out.persistence.OrderKey(o.id, o.createdAt)
+            FROM OrderJpaEntity o
+            WHERE o.customerId = :customerId
+              AND o.createdAt <= :createdAt
+              AND (o.createdAt < :createdAt OR o.id < :id)
+            ORDER BY o.createdAt DESC, o.id DESC
+            """)
+    List<OrderKey> findKeysByCustomerIdBefore(@Param("customerId") UUID customerId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") UUID id,
+                                              Limit limit);
+
+    // Proyección de listado: solo columnas de orders, sin join con order_items
+    @Query("""
+            SELECT new com.sofkify.orderservice.domain.model.OrderSummary(o.id, o.status, o.totalAmount, o.createdAt)
+            FROM OrderJpaEntity o
+            WHERE o.customerId = :customerId
+            ORDER BY o.createdAt DESC, o.id DESC
+            """)
+    List<OrderSummary> findSummariesByCustomerId(@Param("customerId") UUID customerId, Limit limit);
+
+    @Query("""
+            SELECT new com.sofkify.orderservice.domain.model.OrderSummary(o.id, o.status, o.totalAmount, o.createdAt)
+            FROM OrderJpaEntity o
+            WHERE o.customerId = :customerId
+              AND o.createdAt <= :createdAt
+              AND (o.createdAt < :createdAt OR o.id < :id)
+            ORDER BY o.createdAt DESC, o.id DESC
+            """)
+    List<OrderSummary> findSummariesByCustomerIdBefore(@Param("customerId") UUID customerId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") UUID id,
+                                                       Limit limit);
+
+    @EntityGraph(attributePaths = "items")
+    List<OrderJpaEntity> findWithItemsByIdIn(Collection<UUID> ids);
+
     boolean existsByCartId(UUID cartId);
+
+    // La regla de transición va en el predicado: el cambio y su validación son atómicos sin bloquear antes la fila
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE OrderJpaEntity o
+            SET o.status = :status, o.updatedAt = :updatedAt
+            WHERE o.id = :id AND o.status IN :allowedCurrent
+            """)
+    int updateStatus(@Param("id") UUID id,
+                     @Param("allowedCurrent") Collection<OrderStatus> allowedCurrent,
+                     @Param("status") OrderStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
 }
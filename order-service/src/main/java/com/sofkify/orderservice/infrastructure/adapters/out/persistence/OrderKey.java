@@ -0,0 +1,8 @@
+package com.sofkify.orderservice.infrastructure.adapters.out.persistence;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Clave de ordenación del historial: lo único que lee la consulta de la página antes de cargar las órdenes
+public record OrderKey(UUID id, LocalDateTime createdAt) {
+}
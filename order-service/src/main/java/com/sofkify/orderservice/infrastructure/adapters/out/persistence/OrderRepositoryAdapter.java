@@ -1,24 +1,55 @@
 package com.sofkify.orderservice.infrastructure.adapters.out.persistence;
 
 import com.sofkify.orderservice.domain.model.Order;
-import com.sofkify.orderservice.domain.model.OrderItem;
+import com.sofkify.orderservice.domain.model.OrderCursor;
+import com.sofkify.orderservice.domain.model.OrderPage;
+import com.sofkify.orderservice.domain.model.OrderStatus;
+import com.sofkify.orderservice.domain.model.OrderSummary;
+import com.sofkify.orderservice.domain.model.OrderSummaryPage;
 import com.sofkify.orderservice.domain.ports.out.OrderRepositoryPort;
 import com.sofkify.orderservice.infrastructure.mapper.OrderMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public class OrderRepositoryAdapter implements OrderRepositoryPort {
 
+    // Transición masiva en una sola sentencia: las órdenes en un estado de origen no permitido (o inexistentes)
+    // simplemente no coinciden, y RETURNING indica cuáles se actualizaron
+    private static final String UPDATE_STATUSES_SQL = """
+            UPDATE orders
+            SET status = ?, updated_at = ?
+            WHERE id = ANY(?) AND status = ANY(?)
+            RETURNING id
+            """;
+
+    private static final String SELECT_STATUSES_SQL = "SELECT id, status FROM orders WHERE id = ANY(?)";
+
     private final OrderJpaRepository orderJpaRepository;
     private final OrderMapper orderMapper;
+    private final JdbcTemplate jdbcTemplate;
 
-    public OrderRepositoryAdapter(OrderJpaRepository orderJpaRepository, OrderMapper orderMapper) {
+    public OrderRepositoryAdapter(OrderJpaRepository orderJpaRepository, OrderMapper orderMapper, JdbcTemplate jdbcTemplate) {
         this.orderJpaRepository = orderJpaRepository;
         this.orderMapper = orderMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -34,15 +65,84 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
                 .map(orderMapper::toDomainModel);
     }
 
+    // Dos consultas por página sin importar cuántas órdenes tenga el cliente: las claves de la página
+    // (solo índice) y luego esas órdenes con sus ítems en un único join
     @Override
-    public List<Order> findByCustomerId(UUID customerId) {
-        return orderJpaRepository.findByCustomerId(customerId).stream()
+    @Transactional(readOnly = true)
+    public OrderPage findPageByCustomerId(UUID customerId, OrderCursor after, int limit) {
+        // Una fila extra indica si hay página siguiente
+        Limit max = Limit.of(limit + 1);
+        List<OrderKey> keys = after == null
+                ? orderJpaRepository.findKeysByCustomerId(customerId, max)
+                : orderJpaRepository.findKeysByCustomerIdBefore(customerId, after.createdAt(), after.id(), max);
+        if (keys.isEmpty()) {
+            return new OrderPage(List.of(), null);
+        }
+
+        List<OrderKey> page = keys.size() > limit ? keys.subList(0, limit) : keys;
+        Map<UUID, OrderJpaEntity> loaded = orderJpaRepository.findWithItemsByIdIn(page.stream().map(OrderKey::id).toList())
+                .stream()
+                .collect(Collectors.toMap(OrderJpaEntity::getId, Function.identity()));
+        List<Order> orders = page.stream()
+                .map(key -> loaded.get(key.id()))
+                .filter(Objects::nonNull)
                 .map(orderMapper::toDomainModel)
                 .toList();
+
+        // El cursor sale de la última clave leída, aunque esa orden se haya borrado entre las dos consultas
+        OrderKey last = page.get(page.size() - 1);
+        return new OrderPage(orders, keys.size() > limit ? new OrderCursor(last.createdAt(), last.id()) : null);
+    }
+
+    // Una sola consulta sobre orders: la tabla de ítems no se lee
+    @Override
+    @Transactional(readOnly = true)
+    public OrderSummaryPage findSummaryPageByCustomerId(UUID customerId, OrderCursor after, int limit) {
+        Limit max = Limit.of(limit + 1);
+        List<OrderSummary> rows = after == null
+                ? orderJpaRepository.findSummariesByCustomerId(customerId, max)
+                : orderJpaRepository.findSummariesByCustomerIdBefore(customerId, after.createdAt(), after.id(), max);
+        if (rows.size() <= limit) {
+            return new OrderSummaryPage(rows, null);
+        }
+        List<OrderSummary> page = rows.subList(0, limit);
+        OrderSummary last = page.get(limit - 1);
+        return new OrderSummaryPage(List.copyOf(page), new OrderCursor(last.createdAt(), last.id()));
     }
 
     @Override
     public boolean existsByCartId(UUID cartId) {
         return orderJpaRepository.existsByCartId(cartId);
     }
+
+    @Override
+    public boolean updateStatus(UUID orderId, Set<OrderStatus> allowedCurrent, OrderStatus newStatus, LocalDateTime updatedAt) {
+        return orderJpaRepository.updateStatus(orderId, allowedCurrent, newStatus, updatedAt) == 1;
+    }
+
+    @Override
+    public Set<UUID> updateStatuses(Collection<UUID> orderIds, Set<OrderStatus> allowedCurrent, OrderStatus newStatus,
+                                    LocalDateTime updatedAt) {
+        Set<UUID> updated = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPDATE_STATUSES_SQL);
+            statement.setString(1, newStatus.name());
+            statement.setObject(2, updatedAt);
+            statement.setArray(3, connection.createArrayOf("uuid", orderIds.toArray()));
+            statement.setArray(4, connection.createArrayOf("varchar", allowedCurrent.stream().map(Enum::name).toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> updated.add(rs.getObject("id", UUID.class)));
+        return updated;
+    }
+
+    @Override
+    public Map<UUID, OrderStatus> findStatuses(Collection<UUID> orderIds) {
+        Map<UUID, OrderStatus> statuses = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_STATUSES_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", orderIds.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> statuses.put(rs.getObject("id", UUID.class), OrderStatus.valueOf(rs.getString("status"))));
+        return statuses;
+    }
 }
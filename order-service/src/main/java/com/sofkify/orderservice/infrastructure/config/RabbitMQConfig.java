@@ -3,10 +3,15 @@ package com.sofkify.orderservice.infrastructure.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.amqp.autoconfigure.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class RabbitMQConfig {
 
@@ -16,12 +21,27 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.queues.stock-decrement}")
     private String stockDecrementQueue;
 
+    @Value("${rabbitmq.exchanges.stock-decrement-dlx}")
+    private String stockDecrementDeadLetterExchange;
+
     @Value("${rabbitmq.queues.order-status}")
     private String orderStatusQueue;
 
+    @Value("${rabbitmq.queues.order-status-changed}")
+    private String orderStatusChangedQueue;
+
+    @Value("${rabbitmq.queues.order-status-changed-limits.max-length:10000}")
+    private int orderStatusChangedMaxLength;
+
+    @Value("${rabbitmq.queues.order-status-changed-limits.message-ttl:24h}")
+    private Duration orderStatusChangedMessageTtl;
+
     @Value("${rabbitmq.routing-keys.order-created}")
     private String orderCreatedRoutingKey;
 
+    @Value("${rabbitmq.routing-keys.order-status-changed}")
+    private String orderStatusChangedRoutingKey;
+
     @Value("${rabbitmq.routing-keys.stock-decremented}")
     private String stockDecrementedRoutingKey;
 
@@ -33,9 +53,14 @@ public class RabbitMQConfig {
         return new TopicExchange(orderExchange);
     }
 
+    // Debe declararse con los mismos argumentos que en product-service (dueño de la cola y de su DLX/reintentos):
+    // RabbitMQ rechaza redeclarar una cola existente con argumentos distintos
     @Bean
     public Queue stockDecrementQueue() {
-        return QueueBuilder.durable(stockDecrementQueue).build();
+        return QueueBuilder.durable(stockDecrementQueue)
+                .deadLetterExchange(stockDecrementDeadLetterExchange)
+                .deadLetterRoutingKey("retry")
+                .build();
     }
 
     @Bean
@@ -43,6 +68,18 @@ public class RabbitMQConfig {
         return QueueBuilder.durable(orderStatusQueue).build();
     }
 
+    // Retiene los cambios de estado para los servicios que los consuman; sin una cola enlazada el relay los
+    // recibiría devueltos por no enrutables (publicación mandatory) y los reintentaría indefinidamente.
+    // Mientras no haya consumidor la cola queda acotada por longitud y TTL: al llenarse descarta los más antiguos
+    @Bean
+    public Queue orderStatusChangedQueue() {
+        return QueueBuilder.durable(orderStatusChangedQueue)
+                .maxLength(orderStatusChangedMaxLength)
+                .ttl((int) orderStatusChangedMessageTtl.toMillis())
+                .overflow(QueueBuilder.Overflow.dropHead)
+                .build();
+    }
+
     @Bean
     public Binding stockDecrementBinding() {
         return BindingBuilder
@@ -67,10 +104,42 @@ public class RabbitMQConfig {
                 .with(orderFailedRoutingKey);
     }
 
+    @Bean
+    public Binding orderStatusChangedBinding() {
+        return BindingBuilder
+                .bind(orderStatusChangedQueue())
+                .to(orderExchange())
+                .with(orderStatusChangedRoutingKey);
+    }
+
+    // Consumidores concurrentes con prefetch acotado para order.status.queue
+    @Bean
+    public SimpleRabbitListenerContainerFactory orderStatusListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${rabbitmq.listeners.order-status.concurrency:2}") int concurrency,
+            @Value("${rabbitmq.listeners.order-status.max-concurrency:8}") int maxConcurrency,
+            @Value("${rabbitmq.listeners.order-status.prefetch:50}") int prefetch) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConcurrency);
+        factory.setPrefetchCount(prefetch);
+        return factory;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         return mapper;
     }
+
+    // Usado por RabbitTemplate y los listeners; el formato de salida se elige por content-type
+    @Bean
+    public EventMessageConverter eventMessageConverter(
+            ObjectMapper objectMapper,
+            @Value("${rabbitmq.serialization.content-type:application/json}") String contentType) {
+        return new EventMessageConverter(objectMapper, contentType);
+    }
 }
@@ -22,7 +22,7 @@ public class OrderMapper {
         orderJpaEntity.setTotalAmount(order.getTotalAmount());
         orderJpaEntity.setTotalAmountField(order.getTotalAmount()); // Ambos campos con el mismo valor
         orderJpaEntity.setCreatedAt(order.getCreatedAt());
-        orderJpaEntity.setUpdatedAt(order.getCreatedAt()); // Para órdenes inmutables, updatedAt = createdAt
+        orderJpaEntity.setUpdatedAt(order.getUpdatedAt());
 
         List<OrderItemJpaEntity> itemEntities = order.getItems().stream()
                 .map(this::toJpaEntity)
@@ -54,21 +54,27 @@ public class OrderMapper {
                 .map(this::toDomainModel)
                 .collect(Collectors.toList());
 
-        return new Order(
+        return Order.reconstitute(
                 orderJpaEntity.getId(),
                 orderJpaEntity.getCartId(),
                 orderJpaEntity.getCustomerId(),
-                orderItems
+                orderJpaEntity.getStatus(),
+                orderItems,
+                orderJpaEntity.getTotalAmount(),
+                orderJpaEntity.getCreatedAt(),
+                orderJpaEntity.getUpdatedAt()
         );
     }
 
     public OrderItem toDomainModel(OrderItemJpaEntity itemJpaEntity) {
-        return new OrderItem(
+        return OrderItem.reconstitute(
                 itemJpaEntity.getId(),
                 itemJpaEntity.getProductId(),
                 itemJpaEntity.getProductName(),
                 itemJpaEntity.getProductPrice(),
-                itemJpaEntity.getQuantity()
+                itemJpaEntity.getQuantity(),
+                itemJpaEntity.getSubtotal(),
+                itemJpaEntity.getCreatedAt()
         );
     }
 }
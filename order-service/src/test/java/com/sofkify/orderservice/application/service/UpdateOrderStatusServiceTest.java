@@ -0,0 +1,217 @@
+package com.sofkify.orderservice.application.service;
+
+import com.sofkify.orderservice.domain.event.OrderStatusChangedEvent;
+import com.sofkify.orderservice.domain.exception.OrderNotFoundException;
+import com.sofkify.orderservice.domain.model.Order;
+import com.sofkify.orderservice.domain.model.OrderStatus;
+import com.sofkify.orderservice.domain.model.OrderStatusUpdateResult;
+import com.sofkify.orderservice.domain.model.OrderStatusUpdateResult.Outcome;
+import com.sofkify.orderservice.domain.ports.out.EventPublisherPort;
+import com.sofkify.orderservice.domain.ports.out.OrderRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UpdateOrderStatusServiceTest {
+
+    private final UUID orderId = UUID.randomUUID();
+
+    private OrderRepositoryPort orderRepository;
+    private EventPublisherPort eventPublisher;
+    private UpdateOrderStatusService service;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepositoryPort.class);
+        eventPublisher = mock(EventPublisherPort.class);
+        service = new UpdateOrderStatusService(orderRepository, eventPublisher);
+    }
+
+    @Test
+    void sourcesExcludeTheTargetAndCancelledOrders() {
+        assertThat(OrderStatus.sourcesFor(OrderStatus.SHIPPED)).isEqualTo(EnumSet.of(
+            OrderStatus.PENDING_PAYMENT, OrderStatus.PAID, OrderStatus.CONFIRMED, OrderStatus.DELIVERED, OrderStatus.FAILED));
+        assertThat(OrderStatus.sourcesFor(OrderStatus.CANCELLED)).doesNotContain(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void transitionUpdatesWithTheAllowedSourcesAndPublishesOneEvent() {
+        when(orderRepository.updateStatus(eq(orderId), eq(OrderStatus.sourcesFor(OrderStatus.SHIPPED)),
+            eq(OrderStatus.SHIPPED), any(LocalDateTime.class))).thenReturn(true);
+
+        assertThat(service.transitionOrderStatus(orderId, OrderStatus.SHIPPED)).isTrue();
+
+        OrderStatusChangedEvent event = publishedEvent();
+        assertThat(event.getOrderIds()).containsExactly(orderId);
+        assertThat(event.getStatus()).isEqualTo(OrderStatus.SHIPPED);
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    void transitionToTheCurrentStatusIsANoOpWithoutEvent() {
+        givenNoRowUpdated();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order(OrderStatus.SHIPPED)));
+
+        assertThat(service.transitionOrderStatus(orderId, OrderStatus.SHIPPED)).isFalse();
+
+        verify(eventPublisher, never()).publishOrderStatusChanged(any());
+    }
+
+    @Test
+    void transitionFromCancelledIsRejected() {
+        givenNoRowUpdated();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order(OrderStatus.CANCELLED)));
+
+        assertThatThrownBy(() -> service.transitionOrderStatus(orderId, OrderStatus.SHIPPED))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("from CANCELLED to SHIPPED");
+        verify(eventPublisher, never()).publishOrderStatusChanged(any());
+    }
+
+    @Test
+    void transitionOfMissingOrderThrowsNotFound() {
+        givenNoRowUpdated();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.transitionOrderStatus(orderId, OrderStatus.SHIPPED))
+            .isInstanceOf(OrderNotFoundException.class);
+    }
+
+    @Test
+    void sagaTransitionOnlyAppliesFromTheExpectedStatus() {
+        when(orderRepository.updateStatus(eq(orderId), eq(Set.of(OrderStatus.PENDING_PAYMENT)),
+            eq(OrderStatus.CONFIRMED), any(LocalDateTime.class))).thenReturn(true);
+
+        assertThat(service.transitionOrderStatus(orderId, OrderStatus.PENDING_PAYMENT, OrderStatus.CONFIRMED)).isTrue();
+
+        assertThat(publishedEvent().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void lateSagaEventDoesNotMoveAnOrderThatAlreadyAdvanced() {
+        givenNoRowUpdated();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order(OrderStatus.SHIPPED)));
+
+        assertThatThrownBy(() -> service.transitionOrderStatus(orderId, OrderStatus.PENDING_PAYMENT, OrderStatus.CONFIRMED))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("from SHIPPED to CONFIRMED");
+        verify(orderRepository).updateStatus(eq(orderId), eq(Set.of(OrderStatus.PENDING_PAYMENT)),
+            eq(OrderStatus.CONFIRMED), any(LocalDateTime.class));
+        verify(eventPublisher, never()).publishOrderStatusChanged(any());
+    }
+
+    @Test
+    void duplicateSagaEventReturnsFalseWithoutEvent() {
+        givenNoRowUpdated();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order(OrderStatus.CANCELLED)));
+
+        assertThat(service.transitionOrderStatus(orderId, OrderStatus.PENDING_PAYMENT, OrderStatus.CANCELLED)).isFalse();
+
+        verify(eventPublisher, never()).publishOrderStatusChanged(any());
+    }
+
+    @Test
+    void bulkUpdateClassifiesEachOrderAndPublishesOnlyTheUpdatedIds() {
+        UUID updated = UUID.randomUUID();
+        UUID unchanged = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        UUID alsoUpdated = UUID.randomUUID();
+        when(orderRepository.updateStatuses(anyCollection(), eq(OrderStatus.sourcesFor(OrderStatus.SHIPPED)),
+            eq(OrderStatus.SHIPPED), any(LocalDateTime.class))).thenReturn(Set.of(updated, alsoUpdated));
+        when(orderRepository.findStatuses(anyCollection())).thenReturn(Map.of(
+            unchanged, OrderStatus.SHIPPED,
+            cancelled, OrderStatus.CANCELLED));
+
+        List<OrderStatusUpdateResult> results = service.updateOrderStatuses(
+            List.of(updated, unchanged, updated, cancelled, missing, alsoUpdated), OrderStatus.SHIPPED);
+
+        // IDs sin repetidos y en el orden recibido
+        assertThat(results).containsExactly(
+            new OrderStatusUpdateResult(updated, Outcome.UPDATED, OrderStatus.SHIPPED),
+            new OrderStatusUpdateResult(unchanged, Outcome.UNCHANGED, OrderStatus.SHIPPED),
+            new OrderStatusUpdateResult(cancelled, Outcome.INVALID_TRANSITION, OrderStatus.CANCELLED),
+            new OrderStatusUpdateResult(missing, Outcome.NOT_FOUND, null),
+            new OrderStatusUpdateResult(alsoUpdated, Outcome.UPDATED, OrderStatus.SHIPPED));
+        assertThat(requestedIds()).containsExactly(updated, unchanged, cancelled, missing, alsoUpdated);
+        assertThat(lookedUpIds()).containsExactly(unchanged, cancelled, missing);
+        assertThat(publishedEvent().getOrderIds()).containsExactly(updated, alsoUpdated);
+    }
+
+    @Test
+    void bulkUpdateSkipsTheStatusLookupWhenEveryOrderWasUpdated() {
+        UUID other = UUID.randomUUID();
+        when(orderRepository.updateStatuses(anyCollection(), anySet(), eq(OrderStatus.SHIPPED), any(LocalDateTime.class)))
+            .thenReturn(Set.of(orderId, other));
+
+        List<OrderStatusUpdateResult> results = service.updateOrderStatuses(List.of(orderId, other), OrderStatus.SHIPPED);
+
+        assertThat(results).extracting(OrderStatusUpdateResult::outcome).containsOnly(Outcome.UPDATED);
+        verify(orderRepository, never()).findStatuses(anyCollection());
+        assertThat(publishedEvent().getOrderIds()).containsExactly(orderId, other);
+    }
+
+    @Test
+    void bulkUpdateWithNothingUpdatedPublishesNoEvent() {
+        when(orderRepository.updateStatuses(anyCollection(), anySet(), eq(OrderStatus.SHIPPED), any(LocalDateTime.class)))
+            .thenReturn(Set.of());
+        when(orderRepository.findStatuses(anyCollection())).thenReturn(Map.of(orderId, OrderStatus.SHIPPED));
+
+        List<OrderStatusUpdateResult> results = service.updateOrderStatuses(List.of(orderId), OrderStatus.SHIPPED);
+
+        assertThat(results).containsExactly(new OrderStatusUpdateResult(orderId, Outcome.UNCHANGED, OrderStatus.SHIPPED));
+        verify(eventPublisher, never()).publishOrderStatusChanged(any());
+    }
+
+    private void givenNoRowUpdated() {
+        when(orderRepository.updateStatus(eq(orderId), anySet(), any(OrderStatus.class), any(LocalDateTime.class)))
+            .thenReturn(false);
+    }
+
+    private OrderStatusChangedEvent publishedEvent() {
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishOrderStatusChanged(event.capture());
+        return event.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UUID> requestedIds() {
+        ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(orderRepository).updateStatuses(ids.capture(), anySet(), any(OrderStatus.class), any(LocalDateTime.class));
+        return List.copyOf(ids.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UUID> lookedUpIds() {
+        ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(orderRepository).findStatuses(ids.capture());
+        return List.copyOf(ids.getValue());
+    }
+
+    private Order order(OrderStatus status) {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 2, 8, 17, 53, 58);
+        return Order.reconstitute(orderId, UUID.randomUUID(), UUID.randomUUID(), status, List.of(),
+            BigDecimal.ZERO, createdAt, createdAt);
+    }
+}
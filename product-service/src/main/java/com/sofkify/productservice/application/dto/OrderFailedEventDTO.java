@@ -0,0 +1,34 @@
+package com.sofkify.productservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderFailedEventDTO(
+    @JsonProperty("eventId")
+    UUID eventId,
+
+    @JsonProperty("eventType")
+    String eventType,
+
+    @JsonProperty("orderId")
+    UUID orderId,
+
+    @JsonProperty("reason")
+    String reason,
+
+    @JsonProperty("details")
+    String details,
+
+    @JsonProperty("failedAt")
+    LocalDateTime failedAt
+) {
+
+    public static final String INSUFFICIENT_STOCK = "INSUFFICIENT_STOCK";
+    public static final String PRODUCT_NOT_FOUND = "PRODUCT_NOT_FOUND";
+    public static final String INVALID_QUANTITY = "INVALID_QUANTITY";
+
+    public static OrderFailedEventDTO of(UUID orderId, String reason, String details) {
+        return new OrderFailedEventDTO(UUID.randomUUID(), "OrderFailed", orderId, reason, details, LocalDateTime.now());
+    }
+}
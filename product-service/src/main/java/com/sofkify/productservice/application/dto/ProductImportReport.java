@@ -0,0 +1,47 @@
+package com.sofkify.productservice.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado de una importación masiva: totales y el desenlace de cada fila en el orden del archivo.
+ */
+public record ProductImportReport(
+    int received,
+    int created,
+    int rejected,
+    List<RowResult> rows
+) {
+
+    public static ProductImportReport of(List<RowResult> rows) {
+        int created = (int) rows.stream().filter(row -> row.outcome() == Outcome.CREATED).count();
+        return new ProductImportReport(rows.size(), created, rows.size() - created, rows);
+    }
+
+    public enum Outcome {
+        CREATED,
+        DUPLICATE_SKU,
+        INVALID
+    }
+
+    public record RowResult(
+        int row,
+        String sku,
+        Outcome outcome,
+        UUID productId,
+        String error
+    ) {
+
+        public static RowResult created(int row, String sku, UUID productId) {
+            return new RowResult(row, sku, Outcome.CREATED, productId, null);
+        }
+
+        public static RowResult duplicateSku(int row, String sku) {
+            return new RowResult(row, sku, Outcome.DUPLICATE_SKU, null, "Product with SKU " + sku + " already exists");
+        }
+
+        public static RowResult invalid(int row, String sku, String error) {
+            return new RowResult(row, sku, Outcome.INVALID, null, error);
+        }
+    }
+}
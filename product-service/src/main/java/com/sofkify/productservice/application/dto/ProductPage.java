@@ -0,0 +1,16 @@
+package com.sofkify.productservice.application.dto;
+
+import com.sofkify.productservice.domain.model.Product;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Página del catálogo ordenada por ID. {@code nextCursor} es el ID del último producto de la página
+ * (se envía como {@code after} para pedir la siguiente) y es null en la última página.
+ */
+public record ProductPage(
+    List<Product> products,
+    UUID nextCursor
+) {
+}
@@ -0,0 +1,18 @@
+package com.sofkify.productservice.application.dto;
+
+import com.sofkify.productservice.domain.enums.ProductStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Filtros ya validados y normalizados de una búsqueda de productos; los campos nulos no filtran.
+ */
+public record ProductSearchCriteria(
+    String text,
+    String skuPrefix,
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    boolean inStock,
+    ProductStatus status
+) {
+}
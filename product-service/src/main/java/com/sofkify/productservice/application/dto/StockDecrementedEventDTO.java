@@ -0,0 +1,39 @@
+package com.sofkify.productservice.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record StockDecrementedEventDTO(
+    @JsonProperty("eventId")
+    UUID eventId,
+
+    @JsonProperty("eventType")
+    String eventType,
+
+    @JsonProperty("orderId")
+    UUID orderId,
+
+    @JsonProperty("items")
+    List<DecrementedItemDTO> items,
+
+    @JsonProperty("decrementedAt")
+    LocalDateTime decrementedAt
+) {
+
+    public static StockDecrementedEventDTO of(UUID orderId, List<DecrementedItemDTO> items) {
+        return new StockDecrementedEventDTO(UUID.randomUUID(), "StockDecremented", orderId, items, LocalDateTime.now());
+    }
+
+    public record DecrementedItemDTO(
+        @JsonProperty("productId")
+        UUID productId,
+
+        @JsonProperty("quantity")
+        int quantity,
+
+        @JsonProperty("newStock")
+        int newStock
+    ) {}
+}
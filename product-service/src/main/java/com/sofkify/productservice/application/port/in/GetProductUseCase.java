@@ -1,14 +1,27 @@
 package com.sofkify.productservice.application.port.in;
 
+import com.sofkify.productservice.application.dto.ProductPage;
 import com.sofkify.productservice.domain.model.Product;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface GetProductUseCase {
     Product getProductById(UUID id);
 
-    List<Product> getAllProducts();
+    List<Product> getProductsByIds(List<UUID> ids);
 
-    List<Product> getProductsByStatus(String status);
+    /**
+     * Página de productos por keyset: los {@code limit} siguientes a {@code after} en orden de ID.
+     * @param status filtro opcional por estado (null = todos)
+     * @param after ID del último producto de la página anterior (null = primera página)
+     */
+    ProductPage getProductsPage(String status, UUID after, int limit);
+
+    /**
+     * Recorre todo el catálogo (o un estado) en orden de ID entregando cada producto a {@code sink}
+     * sin cargarlo completo en memoria.
+     */
+    void exportProducts(String status, Consumer<Product> sink);
 }
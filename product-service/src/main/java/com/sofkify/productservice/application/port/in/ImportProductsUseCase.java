@@ -0,0 +1,15 @@
+package com.sofkify.productservice.application.port.in;
+
+import com.sofkify.productservice.application.dto.ProductImportReport;
+import com.sofkify.productservice.application.port.in.command.ProductImportLine;
+
+import java.util.Iterator;
+
+public interface ImportProductsUseCase {
+    /**
+     * Crea los productos de un feed masivo leyéndolo a medida que se recorre. Cada bloque de filas se
+     * confirma por separado: una fila inválida o con SKU existente se informa en el reporte sin afectar
+     * al resto, y reenviar el mismo feed no duplica productos.
+     */
+    ProductImportReport importProducts(Iterator<ProductImportLine> lines);
+}
@@ -0,0 +1,14 @@
+package com.sofkify.productservice.application.port.in;
+
+import com.sofkify.productservice.application.dto.ProductPage;
+import com.sofkify.productservice.application.port.in.query.SearchProductsQuery;
+
+import java.util.UUID;
+
+public interface SearchProductsUseCase {
+    /**
+     * Búsqueda paginada por keyset (orden de ID) combinando texto, prefijo de SKU, rango de precio,
+     * disponibilidad y estado. Los filtros nulos no se aplican.
+     */
+    ProductPage searchProducts(SearchProductsQuery query, UUID after, int limit);
+}
@@ -0,0 +1,22 @@
+package com.sofkify.productservice.application.port.in.command;
+
+/**
+ * Fila de una importación masiva tal como llegó del archivo. {@code row} es la posición del registro
+ * (desde 1, sin contar la cabecera CSV). Si la fila no se pudo leer o validar, {@code command} es null
+ * y {@code error} indica el motivo.
+ */
+public record ProductImportLine(
+    int row,
+    String sku,
+    CreateProductCommand command,
+    String error
+) {
+
+    public static ProductImportLine valid(int row, CreateProductCommand command) {
+        return new ProductImportLine(row, command.sku(), command, null);
+    }
+
+    public static ProductImportLine rejected(int row, String sku, String error) {
+        return new ProductImportLine(row, sku, null, error);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sofkify.productservice.application.port.in.query;
+
+import java.math.BigDecimal;
+
+public record SearchProductsQuery(
+   String text,
+   String skuPrefix,
+   BigDecimal minPrice,
+   BigDecimal maxPrice,
+   boolean inStock,
+   String status
+) {
+}
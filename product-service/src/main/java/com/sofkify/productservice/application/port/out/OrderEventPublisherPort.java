@@ -0,0 +1,14 @@
+package com.sofkify.productservice.application.port.out;
+
+import com.sofkify.productservice.application.dto.OrderFailedEventDTO;
+import com.sofkify.productservice.application.dto.StockDecrementedEventDTO;
+
+/**
+ * Publica el resultado del procesamiento de una orden. Debe llamarse dentro de la transacción que
+ * registra el evento como procesado: el resultado se confirma junto con ella y se envía después.
+ */
+public interface OrderEventPublisherPort {
+    void publishStockDecremented(StockDecrementedEventDTO event);
+
+    void publishOrderFailed(OrderFailedEventDTO event);
+}
@@ -0,0 +1,12 @@
+package com.sofkify.productservice.application.port.out;
+
+import java.util.UUID;
+
+public interface ProcessedEventPort {
+
+    /**
+     * Registra el evento como procesado dentro de la transacción en curso.
+     * @return true si es la primera vez que se registra; false si es un duplicado
+     */
+    boolean markProcessed(UUID eventId, String eventType);
+}
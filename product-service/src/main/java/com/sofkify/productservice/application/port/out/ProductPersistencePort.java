@@ -1,19 +1,61 @@
 package com.sofkify.productservice.application.port.out;
 
+import com.sofkify.productservice.application.dto.ProductSearchCriteria;
+import com.sofkify.productservice.domain.enums.ProductStatus;
 import com.sofkify.productservice.domain.model.Product;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ProductPersistencePort {
     Product save(Product product);
 
     Optional<Product> findById(UUID id);
 
-    List<Product> findAll();
+    List<Product> findAllByIds(Collection<UUID> ids);
 
-    List<Product> findByStatus(String status);
+    /**
+     * Hasta {@code limit} productos con ID mayor que {@code after}, en orden de ID.
+     * @param status filtro opcional (null = todos)
+     * @param after cursor exclusivo (null = desde el principio)
+     */
+    List<Product> findPage(ProductStatus status, UUID after, int limit);
+
+    /**
+     * Hasta {@code limit} productos que cumplen los filtros, con ID mayor que {@code after}, en orden de ID.
+     */
+    List<Product> search(ProductSearchCriteria criteria, UUID after, int limit);
+
+    /**
+     * Recorre los productos en orden de ID con un cursor del servidor, entregándolos uno a uno.
+     * @param status filtro opcional (null = todos)
+     */
+    void streamAll(ProductStatus status, Consumer<Product> consumer);
 
     boolean existsBySku(String sku);
+
+    /**
+     * Inserta los productos nuevos en una sola sentencia, omitiendo los que tengan un SKU ya registrado.
+     * @return SKUs efectivamente insertados
+     */
+    Set<String> insertAll(List<Product> products);
+
+    /**
+     * Reserva (decrementa) el stock de varios productos en una sola sentencia, todo o nada.
+     * @param quantities cantidad a descontar por ID de producto
+     * @return stock resultante por ID; vacío si algún producto no existe o no tiene stock suficiente
+     */
+    Map<UUID, Integer> reserveStock(Map<UUID, Integer> quantities);
+
+    /**
+     * Stock actual leído de la base, sin pasar por el cache. Tras un {@link #reserveStock} rechazado, en la
+     * misma transacción, son los valores de las filas que la reserva dejó bloqueadas.
+     * @return stock por ID; los productos inexistentes no aparecen
+     */
+    Map<UUID, Integer> findStockByIds(Collection<UUID> ids);
 }
@@ -1,20 +1,32 @@
 package com.sofkify.productservice.application.service;
 
+import com.sofkify.productservice.application.dto.ProductPage;
 import com.sofkify.productservice.application.port.in.GetProductUseCase;
 import com.sofkify.productservice.application.port.out.ProductPersistencePort;
+import com.sofkify.productservice.domain.enums.ProductStatus;
 import com.sofkify.productservice.domain.exception.ProductNotFoundException;
 import com.sofkify.productservice.domain.model.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GetProductService implements GetProductUseCase {
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final ProductPersistencePort productPersistencePort;
 
     @Override
@@ -28,18 +40,48 @@ public class GetProductService implements GetProductUseCase {
     }
 
     @Override
-    public List<Product> getAllProducts() {
-        log.debug("Fetching all products");
-        List<Product> products = productPersistencePort.findAll();
-        log.info("Found {} products", products.size());
-        return products;
+    public List<Product> getProductsByIds(List<UUID> ids) {
+        Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+        log.debug("Fetching {} products by ID", uniqueIds.size());
+        Map<UUID, Product> productsById = productPersistencePort.findAllByIds(uniqueIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (productsById.size() < uniqueIds.size()) {
+            log.warn("Batch lookup found {} of {} requested products", productsById.size(), uniqueIds.size());
+        }
+        // Conserva el orden de la petición; los IDs inexistentes se omiten
+        return uniqueIds.stream()
+            .map(productsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @Override
+    public ProductPage getProductsPage(String status, UUID after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        log.debug("Fetching product page after {} (limit {}, status {})", after, limit, status);
+        // Se pide una fila de más para saber si hay página siguiente sin un COUNT
+        List<Product> rows = productPersistencePort.findPage(parseStatus(status), after, limit + 1);
+        if (rows.size() <= limit) {
+            return new ProductPage(rows, null);
+        }
+        List<Product> page = rows.subList(0, limit);
+        return new ProductPage(List.copyOf(page), page.get(limit - 1).getId());
     }
 
     @Override
-    public List<Product> getProductsByStatus(String status) {
-        log.debug("Fetching products by status: {}", status);
-        List<Product> products = productPersistencePort.findByStatus(status);
-        log.info("Found {} products with status: {}", products.size(), status);
-        return products;
+    public void exportProducts(String status, Consumer<Product> sink) {
+        ProductStatus productStatus = parseStatus(status);
+        AtomicLong exported = new AtomicLong();
+        productPersistencePort.streamAll(productStatus, product -> {
+            sink.accept(product);
+            exported.incrementAndGet();
+        });
+        log.info("Exported {} products (status {})", exported.get(), status);
+    }
+
+    private ProductStatus parseStatus(String status) {
+        return status == null ? null : ProductStatus.valueOf(status.toUpperCase());
     }
 }
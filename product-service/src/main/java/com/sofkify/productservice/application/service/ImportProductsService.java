@@ -0,0 +1,103 @@
+package com.sofkify.productservice.application.service;
+
+import com.sofkify.productservice.application.dto.ProductImportReport;
+import com.sofkify.productservice.application.dto.ProductImportReport.RowResult;
+import com.sofkify.productservice.application.port.in.ImportProductsUseCase;
+import com.sofkify.productservice.application.port.in.command.CreateProductCommand;
+import com.sofkify.productservice.application.port.in.command.ProductImportLine;
+import com.sofkify.productservice.application.port.out.ProductPersistencePort;
+import com.sofkify.productservice.domain.exception.InvalidProductPriceException;
+import com.sofkify.productservice.domain.exception.InvalidProductStockException;
+import com.sofkify.productservice.domain.model.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportProductsService implements ImportProductsUseCase {
+    // Filas por sentencia INSERT y por transacción: acota la memoria y el tamaño de los arrays enviados a la base
+    public static final int CHUNK_SIZE = 1000;
+
+    private final ProductPersistencePort productPersistencePort;
+
+    @Override
+    public ProductImportReport importProducts(Iterator<ProductImportLine> lines) {
+        List<RowResult> results = new ArrayList<>();
+        List<ProductImportLine> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (lines.hasNext()) {
+            chunk.add(lines.next());
+            if (chunk.size() == CHUNK_SIZE) {
+                results.addAll(importChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(importChunk(chunk));
+        }
+
+        ProductImportReport report = ProductImportReport.of(results);
+        log.info("Product import finished: {} rows, {} created, {} rejected",
+            report.received(), report.created(), report.rejected());
+        return report;
+    }
+
+    private List<RowResult> importChunk(List<ProductImportLine> chunk) {
+        RowResult[] results = new RowResult[chunk.size()];
+        Product[] products = new Product[chunk.size()];
+        // Solo la primera aparición de cada SKU dentro del bloque se envía a la base
+        Map<String, Product> candidates = new HashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            ProductImportLine line = chunk.get(i);
+            if (line.error() != null) {
+                results[i] = RowResult.invalid(line.row(), line.sku(), line.error());
+                continue;
+            }
+            try {
+                Product product = toProduct(line.command());
+                if (candidates.putIfAbsent(product.getSku(), product) == null) {
+                    products[i] = product;
+                } else {
+                    results[i] = RowResult.duplicateSku(line.row(), line.sku());
+                }
+            } catch (InvalidProductPriceException | InvalidProductStockException | IllegalArgumentException e) {
+                results[i] = RowResult.invalid(line.row(), line.sku(), e.getMessage());
+            }
+        }
+
+        // La unicidad contra el catálogo se resuelve en la misma sentencia de inserción (un viaje por bloque)
+        Set<String> inserted = candidates.isEmpty()
+            ? Set.of()
+            : productPersistencePort.insertAll(List.copyOf(candidates.values()));
+        for (int i = 0; i < chunk.size(); i++) {
+            if (products[i] != null) {
+                int row = chunk.get(i).row();
+                results[i] = inserted.contains(products[i].getSku())
+                    ? RowResult.created(row, products[i].getSku(), products[i].getId())
+                    : RowResult.duplicateSku(row, products[i].getSku());
+            }
+        }
+        log.debug("Imported chunk of {} rows: {} inserted", chunk.size(), inserted.size());
+        return Arrays.asList(results);
+    }
+
+    private Product toProduct(CreateProductCommand command) {
+        return Product.create(
+            command.name(),
+            command.description(),
+            command.sku(),
+            command.price(),
+            command.stock()
+        );
+    }
+}
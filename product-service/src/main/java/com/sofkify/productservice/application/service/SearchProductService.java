@@ -0,0 +1,72 @@
+package com.sofkify.productservice.application.service;
+
+import com.sofkify.productservice.application.dto.ProductPage;
+import com.sofkify.productservice.application.dto.ProductSearchCriteria;
+import com.sofkify.productservice.application.port.in.SearchProductsUseCase;
+import com.sofkify.productservice.application.port.in.query.SearchProductsQuery;
+import com.sofkify.productservice.application.port.out.ProductPersistencePort;
+import com.sofkify.productservice.domain.enums.ProductStatus;
+import com.sofkify.productservice.domain.model.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchProductService implements SearchProductsUseCase {
+    private static final int MAX_TEXT_LENGTH = 200;
+
+    private final ProductPersistencePort productPersistencePort;
+
+    @Override
+    public ProductPage searchProducts(SearchProductsQuery query, UUID after, int limit) {
+        if (limit < 1 || limit > GetProductService.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + GetProductService.MAX_PAGE_SIZE);
+        }
+        ProductSearchCriteria criteria = toCriteria(query);
+        log.debug("Searching products {} after {} (limit {})", criteria, after, limit);
+
+        // Una fila de más para saber si hay página siguiente
+        List<Product> rows = productPersistencePort.search(criteria, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new ProductPage(rows, null);
+        }
+        List<Product> page = rows.subList(0, limit);
+        return new ProductPage(List.copyOf(page), page.get(limit - 1).getId());
+    }
+
+    private ProductSearchCriteria toCriteria(SearchProductsQuery query) {
+        String text = blankToNull(query.text());
+        if (text != null && text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Search text cannot exceed " + MAX_TEXT_LENGTH + " characters");
+        }
+        validatePrice("minPrice", query.minPrice());
+        validatePrice("maxPrice", query.maxPrice());
+        if (query.minPrice() != null && query.maxPrice() != null && query.minPrice().compareTo(query.maxPrice()) > 0) {
+            throw new IllegalArgumentException("minPrice cannot be greater than maxPrice");
+        }
+        return new ProductSearchCriteria(
+            text,
+            blankToNull(query.skuPrefix()),
+            query.minPrice(),
+            query.maxPrice(),
+            query.inStock(),
+            query.status() == null ? null : ProductStatus.valueOf(query.status().toUpperCase())
+        );
+    }
+
+    private void validatePrice(String name, BigDecimal price) {
+        if (price != null && price.signum() < 0) {
+            throw new IllegalArgumentException(name + " cannot be negative");
+        }
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
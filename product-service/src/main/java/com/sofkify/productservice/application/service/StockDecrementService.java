@@ -1,9 +1,14 @@
 package com.sofkify.productservice.application.service;
 
 import com.sofkify.productservice.application.dto.OrderCreatedEventDTO;
+import com.sofkify.productservice.application.dto.OrderFailedEventDTO;
+import com.sofkify.productservice.application.dto.StockDecrementedEventDTO;
+import com.sofkify.productservice.application.port.out.OrderEventPublisherPort;
+import com.sofkify.productservice.application.port.out.ProcessedEventPort;
 import com.sofkify.productservice.application.port.out.ProductPersistencePort;
 import com.sofkify.productservice.domain.ports.in.HandleOrderCreatedUseCase;
 import com.sofkify.productservice.domain.exception.InsufficientStockException;
+import com.sofkify.productservice.domain.exception.InvalidProductStockException;
 import com.sofkify.productservice.domain.exception.ProductNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -11,6 +16,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -19,46 +27,95 @@ import java.util.UUID;
 public class StockDecrementService implements HandleOrderCreatedUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(StockDecrementService.class);
+    private static final String EVENT_TYPE = "OrderCreated";
+
     private final ProductPersistencePort productPersistencePort;
+    private final ProcessedEventPort processedEventPort;
+    private final OrderEventPublisherPort orderEventPublisherPort;
 
     @Override
     public void handleOrderCreated(OrderCreatedEventDTO event) {
         logger.info("Handling OrderCreatedEvent for order: {}", event.orderId());
 
+        // Se registra en la misma transacción que el decremento: si la reserva falla, el registro también
+        // se revierte y el reintento vuelve a procesar; si confirmó, un reenvío se descarta aquí
+        if (!processedEventPort.markProcessed(event.orderId(), EVENT_TYPE)) {
+            logger.info("Skipping duplicate OrderCreatedEvent for order: {}", event.orderId());
+            return;
+        }
+
         try {
+            Map<UUID, Integer> quantities = new LinkedHashMap<>();
             for (OrderCreatedEventDTO.OrderItemEventDTO item : event.items()) {
-                decrementStock(item.productId(), item.quantity(), event.orderId());
+                if (item.quantity() <= 0) {
+                    throw new InvalidProductStockException("Quantity to decrement must be greater than zero");
+                }
+                quantities.merge(item.productId(), item.quantity(), Integer::sum);
+            }
+
+            // Todas las líneas de la orden en una sola sentencia: se reservan todas o ninguna
+            Map<UUID, Integer> remainingStock = productPersistencePort.reserveStock(quantities);
+            if (remainingStock.isEmpty() && !quantities.isEmpty()) {
+                throw rejectionCause(quantities);
             }
+            logger.debug("Remaining stock after order {}: {}", event.orderId(), remainingStock);
+
+            orderEventPublisherPort.publishStockDecremented(StockDecrementedEventDTO.of(
+                event.orderId(),
+                quantities.entrySet().stream()
+                    .map(line -> new StockDecrementedEventDTO.DecrementedItemDTO(
+                        line.getKey(), line.getValue(), remainingStock.get(line.getKey())))
+                    .toList()
+            ));
 
             logger.info("Successfully decremented stock for order: {}", event.orderId());
 
+        } catch (InsufficientStockException | ProductNotFoundException | InvalidProductStockException e) {
+            // Rechazo de negocio: no hay reintento posible. El evento queda registrado como procesado
+            // y order-service cancela la orden al recibir OrderFailed
+            logger.warn("Order {} rejected: {}", event.orderId(), e.getMessage());
+            orderEventPublisherPort.publishOrderFailed(OrderFailedEventDTO.of(event.orderId(), failureReason(e), e.getMessage()));
+
         } catch (Exception e) {
             logger.error("Error handling OrderCreatedEvent for order: {}", event.orderId(), e);
-
-            // Aquí podríamos publicar un evento de error
-            // orderEventPublisher.publishOrderFailed(event.orderId(), e.getMessage());
-
             throw new RuntimeException("Failed to process order: " + event.orderId(), e);
         }
     }
 
-    private void decrementStock(UUID productId, int quantity, UUID orderId) {
-        logger.debug("Decrementing {} units for product: {} (order: {})", quantity, productId, orderId);
-
-        var product = productPersistencePort.findById(productId)
-            .orElseThrow(() -> new ProductNotFoundException("Product not found: " + productId));
+    @Override
+    public void handleOrdersCreated(List<OrderCreatedEventDTO> events) {
+        logger.info("Handling batch of {} OrderCreatedEvents", events.size());
+        // Misma transacción para todo el lote: un commit por lote en lugar de uno por orden
+        events.forEach(this::handleOrderCreated);
+    }
 
-        if (product.getStock() < quantity) {
-            throw new InsufficientStockException(
-                String.format("Insufficient stock for product %s. Available: %d, Required: %d",
-                    productId, product.getStock(), quantity)
-            );
+    private String failureReason(RuntimeException rejection) {
+        if (rejection instanceof ProductNotFoundException) {
+            return OrderFailedEventDTO.PRODUCT_NOT_FOUND;
+        }
+        if (rejection instanceof InvalidProductStockException) {
+            return OrderFailedEventDTO.INVALID_QUANTITY;
         }
+        return OrderFailedEventDTO.INSUFFICIENT_STOCK;
+    }
 
-        product.decrementStock(quantity);
-        productPersistencePort.save(product);
+    // La reserva fue rechazada: se lee de la base (no del cache) el stock de las filas que la reserva dejó
+    // bloqueadas en esta transacción, así el mensaje refleja exactamente el valor que decidió el rechazo
+    private RuntimeException rejectionCause(Map<UUID, Integer> quantities) {
+        Map<UUID, Integer> available = productPersistencePort.findStockByIds(quantities.keySet());
 
-        logger.debug("Stock decremented successfully for product: {}. New stock: {}",
-            productId, product.getStock());
+        for (Map.Entry<UUID, Integer> requested : quantities.entrySet()) {
+            Integer stock = available.get(requested.getKey());
+            if (stock == null) {
+                return new ProductNotFoundException("Product not found: " + requested.getKey());
+            }
+            if (stock < requested.getValue()) {
+                return new InsufficientStockException(
+                    String.format("Insufficient stock for product %s. Available: %d, Required: %d",
+                        requested.getKey(), stock, requested.getValue())
+                );
+            }
+        }
+        return new InsufficientStockException("Stock reservation rejected for products: " + quantities.keySet());
     }
 }
@@ -21,6 +21,8 @@ public class Product {
     private final BigDecimal price;
     private int stock;
     private final ProductStatus status;
+    // Versión de persistencia (bloqueo optimista y ETag); null hasta que el producto se guarda por primera vez
+    private final Long version;
 
     public static Product create(String name, String description, String sku, BigDecimal price, int stock) {
         validatePrice(price);
@@ -33,13 +35,14 @@ public class Product {
             sku,
             price,
             stock,
-            ProductStatus.ACTIVE
+            ProductStatus.ACTIVE,
+            null
         );
     }
 
     public static Product reconstitute(UUID id, String name, String description, String sku, BigDecimal price,
-                                       int stock, ProductStatus status) {
-        return new Product(id, name, description, sku, price, stock, status);
+                                       int stock, ProductStatus status, Long version) {
+        return new Product(id, name, description, sku, price, stock, status, version);
     }
 
     private static void validatePrice(BigDecimal price) {
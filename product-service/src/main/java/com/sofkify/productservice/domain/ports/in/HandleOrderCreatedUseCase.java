@@ -1,8 +1,12 @@
 package com.sofkify.productservice.domain.ports.in;
 
 import com.sofkify.productservice.application.dto.OrderCreatedEventDTO;
+import java.util.List;
 import java.util.UUID;
 
 public interface HandleOrderCreatedUseCase {
     void handleOrderCreated(OrderCreatedEventDTO event);
+
+    // Procesa un lote de eventos en una sola transacción: si alguno falla por un error técnico, se revierte el lote completo
+    void handleOrdersCreated(List<OrderCreatedEventDTO> events);
 }
@@ -11,6 +11,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import tools.jackson.core.exc.StreamReadException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -76,6 +77,15 @@ public class GlobalExceptionHandler {
                 .body(ErrorDtoFactory.build(HttpStatus.BAD_REQUEST, "Validation failed", errors, request));
     }
 
+    // Archivo de importación con sintaxis inválida: las filas anteriores al error ya quedaron importadas
+    @ExceptionHandler(StreamReadException.class)
+    public ResponseEntity<ErrorResponse> handleStreamReadException(
+            StreamReadException ex, WebRequest request) {
+        log.warn("Malformed import body: {}", ex.getOriginalMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ErrorDtoFactory.build(HttpStatus.BAD_REQUEST, "Malformed request body: " + ex.getOriginalMessage(), request));
+    }
+
     // General Exceptions
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
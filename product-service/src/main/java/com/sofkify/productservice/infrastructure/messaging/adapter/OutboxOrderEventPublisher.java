@@ -0,0 +1,68 @@
+package com.sofkify.productservice.infrastructure.messaging.adapter;
+
+import com.sofkify.productservice.application.dto.OrderFailedEventDTO;
+import com.sofkify.productservice.application.dto.StockDecrementedEventDTO;
+import com.sofkify.productservice.application.port.out.OrderEventPublisherPort;
+import com.sofkify.productservice.infrastructure.messaging.config.EventMessageConverter;
+import com.sofkify.productservice.infrastructure.persistence.entity.OutboxEventEntity;
+import com.sofkify.productservice.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Guarda el resultado de la orden en {@code outbox_events} dentro de la transacción del decremento:
+ * el evento queda confirmado junto con el stock y el registro en processed_events, y {@link OutboxRelay}
+ * lo envía a RabbitMQ. Un fallo del broker ya no puede perder el resultado de una orden procesada.
+ */
+@Component
+public class OutboxOrderEventPublisher implements OrderEventPublisherPort {
+
+    private final JpaOutboxEventRepository outboxRepository;
+    private final EventMessageConverter eventMessageConverter;
+    private final String stockDecrementedRoutingKey;
+    private final String orderFailedRoutingKey;
+
+    public OutboxOrderEventPublisher(JpaOutboxEventRepository outboxRepository,
+                                     EventMessageConverter eventMessageConverter,
+                                     @Value("${rabbitmq.routing-keys.stock-decremented}") String stockDecrementedRoutingKey,
+                                     @Value("${rabbitmq.routing-keys.order-failed}") String orderFailedRoutingKey) {
+        this.outboxRepository = outboxRepository;
+        this.eventMessageConverter = eventMessageConverter;
+        this.stockDecrementedRoutingKey = stockDecrementedRoutingKey;
+        this.orderFailedRoutingKey = orderFailedRoutingKey;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishStockDecremented(StockDecrementedEventDTO event) {
+        save(event.eventId(), event.orderId(), event.eventType(), stockDecrementedRoutingKey, event);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderFailed(OrderFailedEventDTO event) {
+        save(event.eventId(), event.orderId(), event.eventType(), orderFailedRoutingKey, event);
+    }
+
+    // Se codifica dentro de la transacción: un error de serialización la revierte
+    private void save(UUID eventId, UUID orderId, String eventType, String routingKey, Object event) {
+        Message message;
+        try {
+            message = eventMessageConverter.toMessage(event, new MessageProperties());
+        } catch (MessageConversionException e) {
+            throw new RuntimeException("Failed to serialize event for order: " + orderId, e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(new OutboxEventEntity(eventId, orderId, eventType, routingKey, message.getBody(),
+            message.getMessageProperties().getContentType(), now, 0, now));
+    }
+}
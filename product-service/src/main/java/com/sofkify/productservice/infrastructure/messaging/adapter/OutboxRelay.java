@@ -0,0 +1,115 @@
+package com.sofkify.productservice.infrastructure.messaging.adapter;
+
+import com.sofkify.productservice.infrastructure.persistence.entity.OutboxEventEntity;
+import com.sofkify.productservice.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drena {@code outbox_events} hacia RabbitMQ en lotes: publica el lote completo, espera las confirmaciones
+ * una sola vez, elimina los confirmados y reprograma el resto con backoff exponencial. Entrega al menos
+ * una vez: order-service aplica cada resultado de forma idempotente.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final JpaOutboxEventRepository outboxRepository;
+    private final RabbitMQOutboxSender sender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public OutboxRelay(JpaOutboxEventRepository outboxRepository,
+                       RabbitMQOutboxSender sender,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.confirm-timeout:5s}") Duration confirmTimeout,
+                       @Value("${outbox.relay.retry.initial-backoff:1s}") Duration initialBackoff,
+                       @Value("${outbox.relay.retry.max-backoff:5m}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.sender = sender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:500ms}")
+    public void relay() {
+        boolean fullBatchConfirmed;
+        do {
+            fullBatchConfirmed = Boolean.TRUE.equals(transactionTemplate.execute(status -> relayBatch()));
+        } while (fullBatchConfirmed);
+    }
+
+    // Devuelve true solo si el lote estaba lleno y se confirmó completo (probablemente quedan más eventos)
+    private boolean relayBatch() {
+        List<OutboxEventEntity> batch = outboxRepository.lockNextBatch(batchSize, LocalDateTime.now());
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        Map<OutboxEventEntity, CompletableFuture<Boolean>> pending = new LinkedHashMap<>();
+        for (OutboxEventEntity event : batch) {
+            pending.put(event, sender.publishAsync(
+                event.getId().toString(), event.getRoutingKey(), event.getBody(), event.getContentType()));
+        }
+        awaitConfirms(pending.values());
+
+        List<OutboxEventEntity> confirmed = new ArrayList<>(batch.size());
+        pending.forEach((event, confirm) -> {
+            if (confirm.isDone() && !confirm.isCompletedExceptionally() && confirm.join()) {
+                confirmed.add(event);
+            } else {
+                scheduleRetry(event);
+            }
+        });
+        outboxRepository.deleteAllInBatch(confirmed);
+
+        logger.debug("Outbox batch: {} confirmed, {} rescheduled", confirmed.size(), batch.size() - confirmed.size());
+        return batch.size() == batchSize && confirmed.size() == batch.size();
+    }
+
+    private void awaitConfirms(Iterable<CompletableFuture<Boolean>> confirms) {
+        List<CompletableFuture<Boolean>> all = new ArrayList<>();
+        confirms.forEach(all::add);
+        try {
+            CompletableFuture.allOf(all.toArray(new CompletableFuture[0]))
+                .get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Timed out after {} ms waiting for publisher confirms", confirmTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Los futures se resuelven a true/false; un fallo individual se evalúa evento por evento
+        }
+    }
+
+    private void scheduleRetry(OutboxEventEntity event) {
+        int attempts = event.getAttempts() + 1;
+        long backoffMillis = Math.min(maxBackoff.toMillis(),
+            initialBackoff.toMillis() * (1L << Math.min(attempts - 1, 20)));
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMillis)));
+    }
+}
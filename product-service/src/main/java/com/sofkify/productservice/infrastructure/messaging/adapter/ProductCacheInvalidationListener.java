@@ -0,0 +1,55 @@
+package com.sofkify.productservice.infrastructure.messaging.adapter;
+
+import com.sofkify.productservice.application.dto.StockDecrementedEventDTO;
+import com.sofkify.productservice.infrastructure.messaging.config.EventMessageConverter;
+import com.sofkify.productservice.infrastructure.persistence.cache.ProductCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mantiene coherente el cache de productos entre réplicas: cada instancia recibe los StockDecremented
+ * (propios y de las demás) en su cola anónima e invalida los productos afectados.
+ */
+@Component
+public class ProductCacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductCacheInvalidationListener.class);
+
+    private final EventMessageConverter eventMessageConverter;
+    private final ProductCache productCache;
+
+    public ProductCacheInvalidationListener(EventMessageConverter eventMessageConverter, ProductCache productCache) {
+        this.eventMessageConverter = eventMessageConverter;
+        this.productCache = productCache;
+    }
+
+    @RabbitListener(queues = "#{productCacheInvalidationQueue.name}")
+    public void handleStockDecremented(Message message) {
+        StockDecrementedEventDTO event;
+        try {
+            event = eventMessageConverter.decode(message, StockDecrementedEventDTO.class);
+        } catch (MessageConversionException e) {
+            // Un evento ilegible no debe reintentarse: el TTL acota la obsolescencia
+            logger.warn("Ignoring unparseable stock event ({})", message.getMessageProperties().getContentType(), e);
+            return;
+        }
+        if (event == null || event.items() == null
+                || event.items().stream().anyMatch(item -> item == null || item.productId() == null)) {
+            logger.warn("Ignoring stock event without product ids ({})", message.getMessageProperties().getContentType());
+            return;
+        }
+
+        List<UUID> productIds = event.items().stream()
+            .map(StockDecrementedEventDTO.DecrementedItemDTO::productId)
+            .toList();
+        productCache.invalidate(productIds);
+        logger.debug("Invalidated {} cached products after order {}", productIds.size(), event.orderId());
+    }
+}
@@ -1,43 +1,198 @@
 package com.sofkify.productservice.infrastructure.messaging.adapter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
 import com.sofkify.productservice.application.dto.OrderCreatedEventDTO;
 import com.sofkify.productservice.domain.ports.in.HandleOrderCreatedUseCase;
-import lombok.RequiredArgsConstructor;
+import com.sofkify.productservice.infrastructure.messaging.config.EventMessageConverter;
+import com.sofkify.productservice.infrastructure.messaging.config.RabbitMQConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consumer de OrderCreated. Los rechazos de negocio no llegan aquí como excepción (se publican como
+ * OrderFailed); un error técnico se rechaza sin requeue hacia la cola de reintento con retardo, y al
+ * agotar {@code max-attempts} el mensaje se mueve a la cola parking lot. En modo lote cada mensaje se
+ * confirma o rechaza por separado: solo los que siguen dentro de su presupuesto van a la cola de reintento.
+ */
 @Component
-@RequiredArgsConstructor
 public class RabbitMQOrderCreatedConsumer {
 
     private static final Logger logger = LoggerFactory.getLogger(RabbitMQOrderCreatedConsumer.class);
 
-    private final ObjectMapper objectMapper;
+    private final EventMessageConverter eventMessageConverter;
     private final HandleOrderCreatedUseCase handleOrderCreatedUseCase;
+    private final RabbitTemplate rabbitTemplate;
+    private final String stockDecrementQueue;
+    private final String deadLetterExchange;
+    private final int maxAttempts;
+
+    public RabbitMQOrderCreatedConsumer(EventMessageConverter eventMessageConverter,
+                                        HandleOrderCreatedUseCase handleOrderCreatedUseCase,
+                                        RabbitTemplate rabbitTemplate,
+                                        @Value("${rabbitmq.queues.stock-decrement}") String stockDecrementQueue,
+                                        @Value("${rabbitmq.exchanges.stock-decrement-dlx}") String deadLetterExchange,
+                                        @Value("${rabbitmq.retry.stock-decrement.max-attempts:5}") int maxAttempts) {
+        this.eventMessageConverter = eventMessageConverter;
+        this.handleOrderCreatedUseCase = handleOrderCreatedUseCase;
+        this.rabbitTemplate = rabbitTemplate;
+        this.stockDecrementQueue = stockDecrementQueue;
+        this.deadLetterExchange = deadLetterExchange;
+        this.maxAttempts = maxAttempts;
+    }
 
-    @RabbitListener(queues = "${rabbitmq.queues.stock-decrement}")
-    public void handleOrderCreated(String message) {
-        logger.info("Received OrderCreatedEvent message: {}", message);
+    @RabbitListener(queues = "${rabbitmq.queues.stock-decrement}",
+                    containerFactory = "orderCreatedListenerContainerFactory",
+                    autoStartup = "#{!${rabbitmq.listeners.order-created.batch-enabled:false}}")
+    public void handleOrderCreated(Message message) {
+        logger.info("Received OrderCreatedEvent message ({}, {} bytes)",
+            message.getMessageProperties().getContentType(), message.getBody().length);
 
+        OrderCreatedEventDTO event;
         try {
-            OrderCreatedEventDTO event = objectMapper.readValue(message, OrderCreatedEventDTO.class);
-            logger.info("Parsed OrderCreatedEvent for order: {}", event.orderId());
+            // JSON o CBOR según el content-type del mensaje
+            event = eventMessageConverter.decode(message, OrderCreatedEventDTO.class);
+        } catch (MessageConversionException e) {
+            logger.error("Error parsing OrderCreatedEvent message ({})", message.getMessageProperties().getContentType(), e);
+            park(message, "unparseable message");
+            return;
+        }
 
+        try {
             handleOrderCreatedUseCase.handleOrderCreated(event);
-
             logger.info("Successfully processed OrderCreatedEvent for order: {}", event.orderId());
-
-        } catch (JsonProcessingException e) {
-            logger.error("Error parsing OrderCreatedEvent message: {}", message, e);
-            // Aquí podríamos mover el mensaje a una Dead Letter Queue
-            throw new RuntimeException("Failed to parse OrderCreatedEvent", e);
         } catch (Exception e) {
-            logger.error("Error processing OrderCreatedEvent", e);
-            throw new RuntimeException("Failed to process OrderCreatedEvent", e);
+            logger.error("Error processing OrderCreatedEvent for order: {}", event.orderId(), e);
+            if (!retryOrPark(message, e)) {
+                throw new AmqpRejectAndDontRequeueException("Failed to process OrderCreatedEvent", e);
+            }
+        }
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.stock-decrement}",
+                    containerFactory = "orderCreatedBatchListenerContainerFactory",
+                    autoStartup = "${rabbitmq.listeners.order-created.batch-enabled:false}")
+    public void handleOrdersCreated(List<Message> messages, Channel channel) throws IOException {
+        logger.info("Received batch of {} OrderCreatedEvent messages", messages.size());
+
+        // Mensajes del lote aún sin confirmar ni rechazar, por delivery tag
+        Map<Long, Message> unsettled = new LinkedHashMap<>();
+        messages.forEach(message -> unsettled.put(message.getMessageProperties().getDeliveryTag(), message));
+        try {
+            // Una entrada por entrega, no por evento: dos entregas idénticas del mismo lote (el relay publica al
+            // menos una vez) se confirman ambas; el caso de uso descarta la segunda por processed_events
+            List<Delivery> deliveries = new ArrayList<>(messages.size());
+            for (Message message : messages) {
+                try {
+                    deliveries.add(new Delivery(eventMessageConverter.decode(message, OrderCreatedEventDTO.class), message));
+                } catch (MessageConversionException e) {
+                    logger.error("Error parsing OrderCreatedEvent message ({})", message.getMessageProperties().getContentType(), e);
+                    park(message, "unparseable message");
+                    ack(channel, message, unsettled);
+                }
+            }
+
+            try {
+                handleOrderCreatedUseCase.handleOrdersCreated(deliveries.stream().map(Delivery::event).toList());
+                for (Delivery delivery : deliveries) {
+                    ack(channel, delivery.message(), unsettled);
+                }
+                logger.info("Successfully processed batch of {} OrderCreatedEvents", deliveries.size());
+            } catch (Exception e) {
+                // El lote se revirtió completo: se reprocesa evento por evento para aislar el que falla
+                logger.warn("Batch of {} OrderCreatedEvents failed, falling back to one transaction per event", deliveries.size(), e);
+                handleOneByOne(deliveries, channel, unsettled);
+            }
+        } finally {
+            // Ante un error inesperado, lo que quede pendiente va a la cola de reintento: en modo manual
+            // el contenedor no lo rechaza por nosotros
+            for (Message message : List.copyOf(unsettled.values())) {
+                nack(channel, message, unsettled);
+            }
+        }
+    }
+
+    private void handleOneByOne(List<Delivery> deliveries, Channel channel,
+                                Map<Long, Message> unsettled) throws IOException {
+        int failed = 0;
+        for (Delivery delivery : deliveries) {
+            try {
+                handleOrderCreatedUseCase.handleOrderCreated(delivery.event());
+                ack(channel, delivery.message(), unsettled);
+            } catch (Exception e) {
+                logger.error("Error processing OrderCreatedEvent for order: {}", delivery.event().orderId(), e);
+                if (retryOrPark(delivery.message(), e)) {
+                    ack(channel, delivery.message(), unsettled);
+                } else {
+                    // Solo este mensaje pasa a la cola de reintento con retardo
+                    nack(channel, delivery.message(), unsettled);
+                    failed++;
+                }
+            }
+        }
+        if (failed > 0) {
+            logger.warn("{} of {} OrderCreatedEvents scheduled for delayed retry", failed, deliveries.size());
         }
     }
+
+    private void ack(Channel channel, Message message, Map<Long, Message> unsettled) throws IOException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        if (unsettled.remove(deliveryTag) != null) {
+            channel.basicAck(deliveryTag, false);
+        }
+    }
+
+    // Sin requeue: el mensaje va al DLX y de ahí a la cola de reintento
+    private void nack(Channel channel, Message message, Map<Long, Message> unsettled) throws IOException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        if (unsettled.remove(deliveryTag) != null) {
+            channel.basicNack(deliveryTag, false, false);
+        }
+    }
+
+    // Devuelve true si el mensaje agotó los intentos y se movió al parking lot
+    private boolean retryOrPark(Message message, Exception cause) {
+        long attempts = previousAttempts(message) + 1;
+        if (attempts < maxAttempts) {
+            logger.warn("OrderCreatedEvent attempt {}/{} failed, scheduling delayed retry", attempts, maxAttempts);
+            return false;
+        }
+        park(message, "max attempts (" + maxAttempts + ") exhausted: " + cause.getMessage());
+        return true;
+    }
+
+    // Intentos previos según x-death: cuántas veces se rechazó este mensaje desde la cola principal
+    private long previousAttempts(Message message) {
+        List<Map<String, ?>> xDeath = message.getMessageProperties().getXDeathHeader();
+        if (xDeath == null) {
+            return 0;
+        }
+        return xDeath.stream()
+            .filter(death -> stockDecrementQueue.equals(death.get("queue")) && "rejected".equals(death.get("reason")))
+            .map(death -> death.get("count"))
+            .filter(Number.class::isInstance)
+            .mapToLong(count -> ((Number) count).longValue())
+            .sum();
+    }
+
+    private void park(Message message, String reason) {
+        message.getMessageProperties().setHeader("x-parking-reason", reason);
+        rabbitTemplate.send(deadLetterExchange, RabbitMQConfig.PARKING_LOT_ROUTING_KEY, message);
+        logger.error("OrderCreatedEvent moved to parking lot: {}", reason);
+    }
+
+    private record Delivery(OrderCreatedEventDTO event, Message message) {
+    }
 }
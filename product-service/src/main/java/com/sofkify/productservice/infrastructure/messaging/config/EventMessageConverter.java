@@ -0,0 +1,81 @@
+package com.sofkify.productservice.infrastructure.messaging.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor de los eventos entre servicios. Escribe el evento directamente en los bytes del cuerpo AMQP
+ * con el formato configurado (JSON o CBOR) y lee según el header content-type de cada mensaje, así ambos
+ * formatos conviven mientras se despliegan los servicios. Un mensaje sin content-type o con text/plain
+ * (productores anteriores) se lee como JSON.
+ */
+public class EventMessageConverter implements MessageConverter {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final String outboundContentType;
+
+    public EventMessageConverter(ObjectMapper jsonMapper, String outboundContentType) {
+        if (!MessageProperties.CONTENT_TYPE_JSON.equals(outboundContentType) && !APPLICATION_CBOR.equals(outboundContentType)) {
+            throw new IllegalArgumentException("Unsupported event content type: " + outboundContentType);
+        }
+        this.jsonMapper = jsonMapper;
+        // Misma configuración y módulos (JavaTimeModule) que el mapper JSON, con codificación binaria
+        this.cborMapper = jsonMapper.copyWith(new CBORFactory());
+        this.outboundContentType = outboundContentType;
+    }
+
+    public String getContentType() {
+        return outboundContentType;
+    }
+
+    public byte[] encode(Object event) {
+        try {
+            return mapperFor(outboundContentType).writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to encode " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    public <T> T decode(Message message, Class<T> type) {
+        return decode(message, jsonMapper.constructType(type));
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        byte[] body = encode(object);
+        messageProperties.setContentType(outboundContentType);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    // Sin tipo inferido del parámetro del listener se devuelve el árbol del evento
+    @Override
+    public Object fromMessage(Message message) {
+        Type inferred = message.getMessageProperties().getInferredArgumentType();
+        return decode(message, jsonMapper.constructType(inferred != null ? inferred : JsonNode.class));
+    }
+
+    private <T> T decode(Message message, JavaType type) {
+        try {
+            return mapperFor(message.getMessageProperties().getContentType()).readValue(message.getBody(), type);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to decode message as " + type.getRawClass().getSimpleName(), e);
+        }
+    }
+
+    private ObjectMapper mapperFor(String contentType) {
+        return contentType != null && contentType.startsWith(APPLICATION_CBOR) ? cborMapper : jsonMapper;
+    }
+}
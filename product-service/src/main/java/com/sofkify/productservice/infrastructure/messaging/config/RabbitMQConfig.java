@@ -3,19 +3,43 @@ package com.sofkify.productservice.infrastructure.messaging.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.amqp.autoconfigure.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class RabbitMQConfig {
 
+    // Claves de enrutamiento dentro del DLX del decremento de stock
+    public static final String RETRY_ROUTING_KEY = "retry";
+    public static final String PARKING_LOT_ROUTING_KEY = "parking-lot";
+
     @Value("${rabbitmq.exchanges.order}")
     private String orderExchange;
 
+    @Value("${rabbitmq.exchanges.stock-decrement-dlx}")
+    private String stockDecrementDeadLetterExchange;
+
     @Value("${rabbitmq.queues.stock-decrement}")
     private String stockDecrementQueue;
 
+    @Value("${rabbitmq.queues.stock-decrement-retry}")
+    private String stockDecrementRetryQueue;
+
+    @Value("${rabbitmq.queues.stock-decrement-parking-lot}")
+    private String stockDecrementParkingLotQueue;
+
+    @Value("${rabbitmq.queues.product-cache-invalidation-prefix}")
+    private String productCacheInvalidationQueuePrefix;
+
+    @Value("${rabbitmq.retry.stock-decrement.delay:5s}")
+    private Duration stockDecrementRetryDelay;
+
     @Value("${rabbitmq.routing-keys.order-created}")
     private String orderCreatedRoutingKey;
 
@@ -25,14 +49,33 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing-keys.order-failed}")
     private String orderFailedRoutingKey;
 
+    @Value("${rabbitmq.listeners.order-created.concurrency:2}")
+    private int orderCreatedConcurrency;
+
+    @Value("${rabbitmq.listeners.order-created.max-concurrency:8}")
+    private int orderCreatedMaxConcurrency;
+
+    @Value("${rabbitmq.listeners.order-created.prefetch:250}")
+    private int orderCreatedPrefetch;
+
+    @Value("${rabbitmq.listeners.order-created.batch-size:50}")
+    private int orderCreatedBatchSize;
+
+    @Value("${rabbitmq.listeners.order-created.batch-receive-timeout:100ms}")
+    private Duration orderCreatedBatchReceiveTimeout;
+
     @Bean
     public TopicExchange orderExchange() {
         return new TopicExchange(orderExchange);
     }
 
+    // Los mensajes rechazados (sin requeue) pasan al DLX, que los envía a la cola de reintento
     @Bean
     public Queue stockDecrementQueue() {
-        return QueueBuilder.durable(stockDecrementQueue).build();
+        return QueueBuilder.durable(stockDecrementQueue)
+                .deadLetterExchange(stockDecrementDeadLetterExchange)
+                .deadLetterRoutingKey(RETRY_ROUTING_KEY)
+                .build();
     }
 
     @Bean
@@ -43,10 +86,105 @@ public class RabbitMQConfig {
                 .with(orderCreatedRoutingKey);
     }
 
+    @Bean
+    public DirectExchange stockDecrementDeadLetterExchange() {
+        return new DirectExchange(stockDecrementDeadLetterExchange);
+    }
+
+    // Sin consumidores: cada mensaje espera el TTL y vuelve a la cola principal por el exchange por defecto.
+    // RabbitMQ acumula los intentos en el header x-death
+    @Bean
+    public Queue stockDecrementRetryQueue() {
+        return QueueBuilder.durable(stockDecrementRetryQueue)
+                .ttl((int) stockDecrementRetryDelay.toMillis())
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(stockDecrementQueue)
+                .build();
+    }
+
+    @Bean
+    public Binding stockDecrementRetryBinding() {
+        return BindingBuilder
+                .bind(stockDecrementRetryQueue())
+                .to(stockDecrementDeadLetterExchange())
+                .with(RETRY_ROUTING_KEY);
+    }
+
+    // Mensajes que agotaron los reintentos o no se pueden parsear: quedan para revisión manual
+    @Bean
+    public Queue stockDecrementParkingLotQueue() {
+        return QueueBuilder.durable(stockDecrementParkingLotQueue).build();
+    }
+
+    @Bean
+    public Binding stockDecrementParkingLotBinding() {
+        return BindingBuilder
+                .bind(stockDecrementParkingLotQueue())
+                .to(stockDecrementDeadLetterExchange())
+                .with(PARKING_LOT_ROUTING_KEY);
+    }
+
+    // Cola anónima (exclusiva, auto-delete) por instancia: cada réplica invalida su propio cache de productos
+    @Bean
+    public Queue productCacheInvalidationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(productCacheInvalidationQueuePrefix));
+    }
+
+    @Bean
+    public Binding productCacheStockDecrementedBinding() {
+        return BindingBuilder
+                .bind(productCacheInvalidationQueue())
+                .to(orderExchange())
+                .with(stockDecrementedRoutingKey);
+    }
+
+    // Un mensaje por invocación (y por transacción), con consumidores concurrentes y prefetch configurables
+    @Bean
+    public SimpleRabbitListenerContainerFactory orderCreatedListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        return orderCreatedFactory(configurer, connectionFactory);
+    }
+
+    // Modo lote (rabbitmq.listeners.order-created.batch-enabled): cada consumidor acumula hasta batch-size
+    // mensajes, o lo recibido en batch-receive-timeout, y los entrega juntos en una sola invocación.
+    // Confirmación manual: el listener confirma o rechaza cada mensaje del lote por separado
+    @Bean
+    public SimpleRabbitListenerContainerFactory orderCreatedBatchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = orderCreatedFactory(configurer, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(orderCreatedBatchSize);
+        factory.setReceiveTimeout(orderCreatedBatchReceiveTimeout.toMillis());
+        factory.setPrefetchCount(Math.max(orderCreatedPrefetch, orderCreatedBatchSize));
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    private SimpleRabbitListenerContainerFactory orderCreatedFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(orderCreatedConcurrency);
+        factory.setMaxConcurrentConsumers(orderCreatedMaxConcurrency);
+        factory.setPrefetchCount(orderCreatedPrefetch);
+        // Un fallo nunca se reencola en caliente: va al DLX y se reintenta con retardo
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         return mapper;
     }
+
+    // Usado por RabbitTemplate y los listeners; el formato de salida se elige por content-type
+    @Bean
+    public EventMessageConverter eventMessageConverter(
+            ObjectMapper objectMapper,
+            @Value("${rabbitmq.serialization.content-type:application/json}") String contentType) {
+        return new EventMessageConverter(objectMapper, contentType);
+    }
 }
@@ -0,0 +1,53 @@
+package com.sofkify.productservice.infrastructure.persistence.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sofkify.productservice.application.port.out.ProcessedEventPort;
+import com.sofkify.productservice.infrastructure.persistence.repository.JpaProcessedEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Component
+public class ProcessedEventPersistenceAdapter implements ProcessedEventPort {
+
+    private final JpaProcessedEventRepository processedEventRepository;
+    // Frente en memoria de eventos ya confirmados: los reenvíos recientes se descartan sin consultar la BD.
+    // Solo contiene eventos cuya transacción confirmó, así que un acierto es siempre un duplicado real.
+    private final Cache<UUID, Boolean> recentlyProcessed;
+
+    public ProcessedEventPersistenceAdapter(JpaProcessedEventRepository processedEventRepository,
+                                            @Value("${events.processed-cache.max-size:100000}") long maxSize,
+                                            @Value("${events.processed-cache.ttl:24h}") Duration ttl) {
+        this.processedEventRepository = processedEventRepository;
+        this.recentlyProcessed = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean markProcessed(UUID eventId, String eventType) {
+        if (recentlyProcessed.getIfPresent(eventId) != null) {
+            return false;
+        }
+
+        // Evento nuevo: el mismo INSERT que lo registra hace de chequeo de duplicado (sin SELECT previo)
+        boolean firstTime = processedEventRepository.insertIfAbsent(eventId, eventType) == 1;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentlyProcessed.put(eventId, Boolean.TRUE);
+            }
+        });
+        return firstTime;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sofkify.productservice.infrastructure.persistence.adapter;
+
+import com.sofkify.productservice.infrastructure.persistence.repository.JpaProcessedEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Acota {@code processed_events}: elimina los registros más antiguos que {@code events.processed-retention}.
+ * Un OrderCreated reentregado después de ese plazo (por ejemplo, reinyectado desde el parking lot) ya no
+ * se reconocería como duplicado, así que la retención debe cubrir la ventana máxima de reentrega.
+ */
+@Component
+public class ProcessedEventRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessedEventRetentionJob.class);
+
+    private final JpaProcessedEventRepository processedEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public ProcessedEventRetentionJob(JpaProcessedEventRepository processedEventRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${events.processed-retention.period:7d}") Duration retention,
+                                      @Value("${events.processed-retention.batch-size:10000}") int batchSize) {
+        this.processedEventRepository = processedEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${events.processed-retention.interval:1h}")
+    public void purge() {
+        long total = 0;
+        int deleted;
+        do {
+            // Una transacción corta por tramo
+            Integer batch = transactionTemplate.execute(status -> processedEventRepository.deleteOlderThan(retention.toSeconds(), batchSize));
+            deleted = batch == null ? 0 : batch;
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            logger.info("Purged {} processed events older than {}", total, retention);
+        }
+    }
+}
@@ -1,52 +1,220 @@
 package com.sofkify.productservice.infrastructure.persistence.adapter;
 
+import com.sofkify.productservice.application.dto.ProductSearchCriteria;
 import com.sofkify.productservice.application.port.out.ProductPersistencePort;
 import com.sofkify.productservice.domain.enums.ProductStatus;
 import com.sofkify.productservice.domain.model.Product;
+import com.sofkify.productservice.infrastructure.persistence.cache.ProductCache;
 import com.sofkify.productservice.infrastructure.persistence.entity.ProductEntity;
 import com.sofkify.productservice.infrastructure.persistence.mapper.ProductMapper;
 import com.sofkify.productservice.infrastructure.persistence.repository.JpaProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class ProductPersistenceAdapter implements ProductPersistencePort {
+
+    // Una sola sentencia para toda la orden:
+    //  1. bloquea las filas solicitadas en orden de ID (mismo orden en todas las réplicas, sin deadlocks)
+    //  2. verifica que existan todas y que todas tengan stock suficiente
+    //  3. descuenta solo si la verificación pasó; si no, no actualiza ninguna fila
+    private static final String RESERVE_STOCK_SQL = """
+        WITH requested AS (
+            SELECT r.id, r.quantity FROM unnest(?::uuid[], ?::integer[]) AS r(id, quantity)
+        ),
+        locked AS (
+            SELECT p.id, p.stock FROM products p
+            WHERE p.id IN (SELECT id FROM requested)
+            ORDER BY p.id
+            FOR UPDATE
+        ),
+        verdict AS (
+            SELECT count(*) = (SELECT count(*) FROM requested) AND bool_and(l.stock >= r.quantity) AS ok
+            FROM locked l JOIN requested r ON r.id = l.id
+        )
+        UPDATE products p
+        SET stock = p.stock - r.quantity, version = p.version + 1
+        FROM requested r, verdict v
+        WHERE p.id = r.id AND v.ok
+        RETURNING p.id, p.stock
+        """;
+
+    private static final String SELECT_STOCK_SQL = "SELECT id, stock FROM products WHERE id = ANY(?)";
+
+    // Inserción masiva en una sola sentencia: las filas llegan como arrays paralelos (un parámetro por columna)
+    // y ON CONFLICT descarta los SKUs existentes, también los insertados en paralelo por otra petición
+    private static final String INSERT_PRODUCTS_SQL = """
+        INSERT INTO products (id, name, description, sku, price, stock, status, version)
+        SELECT r.id, r.name, r.description, r.sku, r.price, r.stock, r.status, 0
+        FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::numeric[], ?::integer[], ?::varchar[])
+            AS r(id, name, description, sku, price, stock, status)
+        ON CONFLICT (sku) DO NOTHING
+        RETURNING sku
+        """;
+
+    private static final String SELECT_PRODUCTS =
+        "SELECT id, name, description, sku, price, stock, status, version FROM products";
+    private static final String EXPORT_SQL = SELECT_PRODUCTS + " ORDER BY id";
+    private static final String EXPORT_BY_STATUS_SQL = SELECT_PRODUCTS + " WHERE status = ? ORDER BY id";
+    // Debe coincidir exactamente con la expresión de idx_products_search_text (schema.sql) para usar el índice GIN
+    private static final String SEARCH_DOCUMENT = "to_tsvector('simple', name || ' ' || coalesce(description, ''))";
+    // Filas por viaje al servidor durante la exportación: acota la memoria independientemente del tamaño del catálogo
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
     private final JpaProductRepository jpaProductRepository;
     private final ProductMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductCache productCache;
 
     @Override
     @Transactional
     public Product save(Product product) {
         ProductEntity entity = mapper.toEntity(product);
         ProductEntity savedEntity = jpaProductRepository.save(entity);
+        productCache.invalidateAfterCommit(List.of(savedEntity.getId()));
         return mapper.toDomain(savedEntity);
     }
 
+    // Read-through: los productos inexistentes no se cachean
     @Override
     @Transactional(readOnly = true)
     public Optional<Product> findById(UUID id) {
-        return jpaProductRepository.findById(id).map(mapper::toDomain);
+        Optional<Product> cached = productCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long loadStamp = productCache.loadStamp();
+        Optional<Product> product = jpaProductRepository.findById(id).map(mapper::toDomain);
+        product.ifPresent(loaded -> productCache.put(loaded, loadStamp));
+        return product;
     }
 
+    // Solo los IDs que no están en cache van a la base, en una sola consulta
     @Override
     @Transactional(readOnly = true)
-    public List<Product> findAll() {
-        return jpaProductRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+    public List<Product> findAllByIds(Collection<UUID> ids) {
+        Map<UUID, Product> cached = productCache.getAll(ids);
+        List<Product> products = new ArrayList<>(cached.values());
+        if (cached.size() < ids.size()) {
+            List<UUID> missing = ids.stream().filter(id -> !cached.containsKey(id)).toList();
+            long loadStamp = productCache.loadStamp();
+            List<Product> loaded = jpaProductRepository.findAllById(missing).stream().map(mapper::toDomain).toList();
+            productCache.putAll(loaded, loadStamp);
+            products.addAll(loaded);
+        }
+        return products;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Product> findByStatus(String status) {
-        ProductStatus productStatus = ProductStatus.valueOf(status.toUpperCase());
-        return jpaProductRepository.findByStatus(productStatus)
-            .stream().map(mapper::toDomain).collect(Collectors.toList());
+    public List<Product> findPage(ProductStatus status, UUID after, int limit) {
+        Limit max = Limit.of(limit);
+        List<ProductEntity> entities;
+        if (status == null) {
+            entities = after == null
+                ? jpaProductRepository.findAllByOrderByIdAsc(max)
+                : jpaProductRepository.findByIdGreaterThanOrderByIdAsc(after, max);
+        } else {
+            entities = after == null
+                ? jpaProductRepository.findByStatusOrderByIdAsc(status, max)
+                : jpaProductRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, after, max);
+        }
+        return entities.stream().map(mapper::toDomain).collect(Collectors.toList());
+    }
+
+    // Cada filtro presente añade un predicado respaldado por su índice (schema.sql); el orden por ID
+    // permite la paginación keyset igual que el listado
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> search(ProductSearchCriteria criteria, UUID after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_PRODUCTS).append(" WHERE TRUE");
+        List<Object> args = new ArrayList<>();
+        if (criteria.text() != null) {
+            sql.append(" AND ").append(SEARCH_DOCUMENT).append(" @@ websearch_to_tsquery('simple', ?)");
+            args.add(criteria.text());
+        }
+        if (criteria.skuPrefix() != null) {
+            sql.append(" AND sku LIKE ? ESCAPE '\\'");
+            args.add(escapeLike(criteria.skuPrefix()) + "%");
+        }
+        if (criteria.minPrice() != null) {
+            sql.append(" AND price >= ?");
+            args.add(criteria.minPrice());
+        }
+        if (criteria.maxPrice() != null) {
+            sql.append(" AND price <= ?");
+            args.add(criteria.maxPrice());
+        }
+        if (criteria.inStock()) {
+            sql.append(" AND stock > 0");
+        }
+        if (criteria.status() != null) {
+            sql.append(" AND status = ?");
+            args.add(criteria.status().name());
+        }
+        if (after != null) {
+            sql.append(" AND id > ?");
+            args.add(after);
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toProduct(rs), args.toArray());
+    }
+
+    // JDBC directo en lugar de entidades: no se llena el contexto de persistencia. Con autocommit
+    // desactivado (transacción) y fetchSize, el driver de PostgreSQL lee con un cursor del servidor
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(ProductStatus status, Consumer<Product> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                status == null ? EXPORT_SQL : EXPORT_BY_STATUS_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            if (status != null) {
+                statement.setString(1, status.name());
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(toProduct(rs)));
+    }
+
+    private Product toProduct(ResultSet rs) throws SQLException {
+        return Product.reconstitute(
+            rs.getObject("id", UUID.class),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getString("sku"),
+            rs.getBigDecimal("price"),
+            rs.getInt("stock"),
+            ProductStatus.valueOf(rs.getString("status")),
+            rs.getLong("version")
+        );
+    }
+
+    // El prefijo de SKU es literal: se escapan los comodines de LIKE
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     @Override
@@ -54,4 +222,57 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
     public boolean existsBySku(String sku) {
         return jpaProductRepository.existsBySku(sku);
     }
+
+    @Override
+    @Transactional
+    public Set<String> insertAll(List<Product> products) {
+        Set<String> inserted = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_PRODUCTS_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", products.stream().map(Product::getId).toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar", products.stream().map(Product::getName).toArray()));
+            statement.setArray(3, connection.createArrayOf("varchar", products.stream().map(Product::getDescription).toArray()));
+            statement.setArray(4, connection.createArrayOf("varchar", products.stream().map(Product::getSku).toArray()));
+            statement.setArray(5, connection.createArrayOf("numeric", products.stream().map(Product::getPrice).toArray()));
+            statement.setArray(6, connection.createArrayOf("integer", products.stream().map(Product::getStock).toArray()));
+            statement.setArray(7, connection.createArrayOf("varchar", products.stream().map(p -> p.getStatus().name()).toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> inserted.add(rs.getString("sku")));
+        return inserted;
+    }
+
+    @Override
+    @Transactional
+    public Map<UUID, Integer> reserveStock(Map<UUID, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return Map.of();
+        }
+        UUID[] ids = quantities.keySet().toArray(new UUID[0]);
+        Integer[] amounts = quantities.values().toArray(new Integer[0]);
+
+        Map<UUID, Integer> remainingStock = new LinkedHashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RESERVE_STOCK_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            statement.setArray(2, connection.createArrayOf("integer", amounts));
+            return statement;
+        }, (RowCallbackHandler) rs -> remainingStock.put(rs.getObject("id", UUID.class), rs.getInt("stock")));
+        // El stock forma parte del agregado cacheado: cada reserva confirmada invalida sus productos
+        productCache.invalidateAfterCommit(remainingStock.keySet());
+        return remainingStock;
+    }
+
+    @Override
+    public Map<UUID, Integer> findStockByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Integer> stock = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_STOCK_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> stock.put(rs.getObject("id", UUID.class), rs.getInt("stock")));
+        return stock;
+    }
 }
@@ -0,0 +1,107 @@
+package com.sofkify.productservice.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sofkify.productservice.domain.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache local acotado de agregados {@link Product} para las lecturas por ID. Las escrituras de esta
+ * instancia lo invalidan tras el commit; las de otras réplicas, al recibir sus eventos de stock. El TTL
+ * acota la obsolescencia si se pierde una invalidación.
+ * <p>
+ * Una lectura que carga de la base toma antes un sello ({@link #loadStamp()}) y solo guarda el resultado
+ * si el producto no se invalidó después: así una carga anterior a un commit no vuelve a dejar en cache el
+ * stock (y la versión) que ese commit acaba de invalidar.
+ */
+@Component
+public class ProductCache {
+
+    private static final String CACHE_NAME = "products";
+
+    private final Cache<UUID, Product> cache;
+    // Sello de la última invalidación de cada producto; basta con conservarlo mientras pueda haber una carga
+    // en curso, que siempre dura mucho menos que el TTL
+    private final Cache<UUID, Long> lastInvalidation;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProductCache(@Value("${products.cache.ttl:5m}") Duration ttl,
+                        @Value("${products.cache.max-size:50000}") long maxSize,
+                        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        this.lastInvalidation = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .build();
+        // Expone cache.gets{result=hit|miss}, cache.evictions, cache.size etiquetados con cache=products
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Product> get(UUID productId) {
+        return Optional.ofNullable(cache.getIfPresent(productId));
+    }
+
+    public Map<UUID, Product> getAll(Collection<UUID> productIds) {
+        return cache.getAllPresent(productIds);
+    }
+
+    /**
+     * Sello a tomar antes de leer de la base los productos que luego se pasarán a {@link #put}.
+     */
+    public long loadStamp() {
+        return invalidations.get();
+    }
+
+    // compute bloquea la clave: una invalidación concurrente o bien ya dejó su sello (y no se guarda),
+    // o bien elimina la entrada justo después
+    public void put(Product product, long loadStamp) {
+        cache.asMap().compute(product.getId(), (id, current) -> {
+            Long invalidatedAt = lastInvalidation.getIfPresent(id);
+            return invalidatedAt != null && invalidatedAt > loadStamp ? current : product;
+        });
+    }
+
+    public void putAll(Collection<Product> products, long loadStamp) {
+        products.forEach(product -> put(product, loadStamp));
+    }
+
+    public void invalidate(Collection<UUID> productIds) {
+        productIds.forEach(id -> lastInvalidation.put(id, invalidations.incrementAndGet()));
+        cache.invalidateAll(productIds);
+    }
+
+    /**
+     * Invalida al confirmar la transacción actual (o de inmediato si no hay una): antes del commit otra
+     * lectura volvería a cargar el valor anterior.
+     */
+    public void invalidateAfterCommit(Collection<UUID> productIds) {
+        List<UUID> ids = List.copyOf(productIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(ids);
+            }
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.sofkify.productservice.infrastructure.persistence.entity;
 import com.sofkify.productservice.domain.enums.ProductStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -13,7 +14,7 @@ import java.util.UUID;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "products")
+@Table(name = "products", indexes = @Index(name = "idx_products_status_id", columnList = "status, id"))
 public class ProductEntity {
 
     @Id
@@ -37,4 +38,10 @@ public class ProductEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ProductStatus status;
+
+    // Se incrementa en cada escritura, también en la reserva de stock por SQL. El default rellena las filas existentes
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
@@ -14,7 +14,8 @@ public class ProductMapper {
             product.getSku(),
             product.getPrice(),
             product.getStock(),
-            product.getStatus()
+            product.getStatus(),
+            product.getVersion()
         );
     }
 
@@ -26,7 +27,8 @@ public class ProductMapper {
             entity.getSku(),
             entity.getPrice(),
             entity.getStock(),
-            entity.getStatus()
+            entity.getStatus(),
+            entity.getVersion()
         );
     }
 }
@@ -0,0 +1,26 @@
+package com.sofkify.productservice.infrastructure.persistence.repository;
+
+import com.sofkify.productservice.infrastructure.persistence.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
+
+    // SKIP LOCKED: varias réplicas del relay drenan lotes distintos en paralelo sin esperarse entre sí.
+    // Los eventos rechazados por el broker esperan hasta next_attempt_at (backoff)
+    @Query(value = """
+        SELECT * FROM outbox_events
+        WHERE next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEventEntity> lockNextBatch(@Param("limit") int limit, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.sofkify.productservice.infrastructure.persistence.repository;
+
+import com.sofkify.productservice.infrastructure.persistence.entity.ProcessedEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface JpaProcessedEventRepository extends JpaRepository<ProcessedEventEntity, UUID> {
+
+    // Devuelve 1 si el evento se registró ahora y 0 si ya estaba registrado; una entrega concurrente
+    // del mismo evento espera en el índice único hasta que la primera transacción confirme o revierta
+    @Modifying
+    @Query(value = """
+        INSERT INTO processed_events (event_id, event_type, processed_at)
+        VALUES (:eventId, :eventType, now())
+        ON CONFLICT (event_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("eventId") UUID eventId, @Param("eventType") String eventType);
+
+    // Borrado por tramos acotados (índice sobre processed_at): no bloquea de golpe todo lo vencido.
+    // El corte se calcula con el reloj de la base, el mismo que asigna processed_at
+    @Modifying
+    @Query(value = """
+        DELETE FROM processed_events
+        WHERE event_id IN (
+            SELECT event_id FROM processed_events
+            WHERE processed_at < now() - make_interval(secs => :retentionSeconds)
+            LIMIT :limit
+        )
+        """, nativeQuery = true)
+    int deleteOlderThan(@Param("retentionSeconds") long retentionSeconds, @Param("limit") int limit);
+}
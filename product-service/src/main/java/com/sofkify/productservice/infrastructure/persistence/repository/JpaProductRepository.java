@@ -2,6 +2,7 @@ package com.sofkify.productservice.infrastructure.persistence.repository;
 
 import com.sofkify.productservice.domain.enums.ProductStatus;
 import com.sofkify.productservice.infrastructure.persistence.entity.ProductEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,7 +11,14 @@ import java.util.UUID;
 
 @Repository
 public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID> {
-    List<ProductEntity> findByStatus(ProductStatus status);
-    
+    // Paginación keyset sobre la PK (y sobre idx_products_status_id al filtrar por estado)
+    List<ProductEntity> findAllByOrderByIdAsc(Limit limit);
+
+    List<ProductEntity> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+
+    List<ProductEntity> findByStatusOrderByIdAsc(ProductStatus status, Limit limit);
+
+    List<ProductEntity> findByStatusAndIdGreaterThanOrderByIdAsc(ProductStatus status, UUID after, Limit limit);
+
     boolean existsBySku(String sku);
 }
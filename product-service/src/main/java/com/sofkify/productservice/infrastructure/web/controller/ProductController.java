@@ -1,18 +1,32 @@
 package com.sofkify.productservice.infrastructure.web.controller;
 
+import com.sofkify.productservice.application.dto.ProductImportReport;
+import com.sofkify.productservice.application.dto.ProductPage;
 import com.sofkify.productservice.application.port.in.CreateProductUseCase;
 import com.sofkify.productservice.application.port.in.GetProductUseCase;
+import com.sofkify.productservice.application.port.in.ImportProductsUseCase;
+import com.sofkify.productservice.application.port.in.SearchProductsUseCase;
 import com.sofkify.productservice.application.port.in.command.CreateProductCommand;
+import com.sofkify.productservice.application.port.in.query.SearchProductsQuery;
 import com.sofkify.productservice.domain.model.Product;
 import com.sofkify.productservice.infrastructure.web.dto.request.CreateProductRequest;
+import com.sofkify.productservice.infrastructure.web.dto.request.ProductBatchRequest;
 import com.sofkify.productservice.infrastructure.web.dto.response.ProductResponse;
+import com.sofkify.productservice.infrastructure.web.importer.ProductImportReader;
 import com.sofkify.productservice.infrastructure.web.mapper.ProductDtoMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,9 +34,17 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @RequestMapping("/api/products")
 public class ProductController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String TEXT_CSV = "text/csv";
+
     private final CreateProductUseCase createProductUseCase;
     private final GetProductUseCase getProductUseCase;
+    private final SearchProductsUseCase searchProductsUseCase;
+    private final ImportProductsUseCase importProductsUseCase;
+    private final ProductImportReader importReader;
     private final ProductDtoMapper dtoMapper;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ProductResponse> createProduct(@Valid @RequestBody CreateProductRequest request) {
@@ -31,17 +53,75 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(dtoMapper.toDto(createdProduct));
     }
 
+    // Importación masiva (feeds de proveedores): el cuerpo se lee en streaming y se responde con el
+    // resultado de cada fila; los rechazos por fila no invalidan la petición
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON})
+    public ResponseEntity<ProductImportReport> importProducts(InputStream body) {
+        return ResponseEntity.ok(importProductsUseCase.importProducts(importReader.readJson(body)));
+    }
+
+    @PostMapping(value = "/import", consumes = TEXT_CSV)
+    public ResponseEntity<ProductImportReport> importProductsCsv(InputStream body) {
+        return ResponseEntity.ok(importProductsUseCase.importProducts(importReader.readCsv(body)));
+    }
+
+    // ETag fuerte con la versión del producto: con If-None-Match vigente responde 304 sin serializar el cuerpo
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponse> getProductById(@PathVariable UUID id) {
-        return ResponseEntity.ok(dtoMapper.toDto(getProductUseCase.getProductById(id)));
+        Product product = getProductUseCase.getProductById(id);
+        return ResponseEntity.ok()
+            .eTag(String.valueOf(product.getVersion()))
+            .body(dtoMapper.toDto(product));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<ProductResponse>> getProductsByIds(@Valid @RequestBody ProductBatchRequest request) {
+        return ResponseEntity.ok(getProductUseCase.getProductsByIds(request.ids())
+            .stream().map(dtoMapper::toDto).toList());
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getAllProducts(@RequestParam(required = false) String status) {
-        if (status == null) {
-            return ResponseEntity.ok(getProductUseCase.getAllProducts().stream().map(dtoMapper::toDto).toList());
+    public ResponseEntity<List<ProductResponse>> getProducts(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "100") int limit) {
+        return toPageResponse(getProductUseCase.getProductsPage(status, after, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductResponse>> searchProducts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String sku,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "20") int limit) {
+        ProductPage page = searchProductsUseCase.searchProducts(
+            new SearchProductsQuery(q, sku, minPrice, maxPrice, inStock, status), after, limit);
+        return toPageResponse(page);
+    }
+
+    // Exportación completa para sincronizar catálogos: un producto JSON por línea, escrito a medida que se lee
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(required = false) String status) {
+        StreamingResponseBody body = out -> getProductUseCase.exportProducts(status, product -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(dtoMapper.toDto(product)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    private ResponseEntity<List<ProductResponse>> toPageResponse(ProductPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
         }
-        return ResponseEntity.ok(getProductUseCase.getProductsByStatus(status.toUpperCase())
-            .stream().map(dtoMapper::toDto).toList());
+        return response.body(page.products().stream().map(dtoMapper::toDto).toList());
     }
 }
@@ -1,5 +1,6 @@
 package com.sofkify.productservice.infrastructure.web.dto.request;
 
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -22,6 +23,7 @@ public record CreateProductRequest(
 
     @NotNull(message = "Product price is required")
     @DecimalMin(value = "0.01", message = "Product price must be greater than zero")
+    @DecimalMax(value = "99999999.99", message = "Product price must not exceed 99999999.99")
     BigDecimal price,
 
     @NotNull(message = "Product stock is required")
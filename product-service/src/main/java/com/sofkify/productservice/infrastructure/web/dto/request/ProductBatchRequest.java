@@ -0,0 +1,15 @@
+package com.sofkify.productservice.infrastructure.web.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProductBatchRequest(
+    @NotEmpty(message = "Product IDs are required")
+    @Size(max = 200, message = "A batch cannot contain more than 200 product IDs")
+    List<@NotNull(message = "Product ID cannot be null") UUID> ids
+) {
+}
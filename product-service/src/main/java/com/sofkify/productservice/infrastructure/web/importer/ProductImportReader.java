@@ -0,0 +1,78 @@
+package com.sofkify.productservice.infrastructure.web.importer;
+
+import com.sofkify.productservice.application.port.in.command.ProductImportLine;
+import com.sofkify.productservice.infrastructure.web.dto.request.CreateProductRequest;
+import com.sofkify.productservice.infrastructure.web.mapper.ProductDtoMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.csv.CsvMapper;
+import tools.jackson.dataformat.csv.CsvSchema;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lee un feed de productos registro a registro, sin cargar el archivo en memoria. Acepta un array JSON,
+ * JSON delimitado por líneas o CSV con cabecera ({@code name,description,sku,price,stock}). Cada registro
+ * pasa las mismas validaciones que {@link CreateProductRequest} en el alta individual; un registro que no
+ * se puede convertir o no es válido se entrega como fila rechazada y la lectura continúa con el siguiente.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImportReader {
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ProductDtoMapper dtoMapper;
+
+    public Iterator<ProductImportLine> readJson(InputStream body) {
+        return lines(objectMapper.readerFor(CreateProductRequest.class).readValues(body));
+    }
+
+    public Iterator<ProductImportLine> readCsv(InputStream body) {
+        return lines(CSV_MAPPER.readerFor(CreateProductRequest.class).with(CSV_SCHEMA).readValues(body));
+    }
+
+    // Un error de sintaxis que impide seguir leyendo (JSON mal formado) se propaga desde hasNext
+    private Iterator<ProductImportLine> lines(MappingIterator<CreateProductRequest> records) {
+        return new Iterator<>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return records.hasNextValue();
+            }
+
+            @Override
+            public ProductImportLine next() {
+                row++;
+                try {
+                    return toLine(row, records.nextValue());
+                } catch (DatabindException e) {
+                    return ProductImportLine.rejected(row, null, e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    private ProductImportLine toLine(int row, CreateProductRequest request) {
+        Set<ConstraintViolation<CreateProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+            return ProductImportLine.rejected(row, request.sku(), error);
+        }
+        return ProductImportLine.valid(row, dtoMapper.toCommand(request));
+    }
+}
@@ -0,0 +1,14 @@
+-- Catálogo de productos. En una base existente (con datos y sin historial de Flyway) esta versión se toma
+-- como línea base (spring.flyway.baseline-on-migrate) y no se ejecuta. Las demás tablas las gestiona Hibernate
+CREATE TABLE IF NOT EXISTS products (
+    id UUID PRIMARY KEY,
+    name VARCHAR(200) NOT NULL,
+    description VARCHAR(1000),
+    sku VARCHAR(100) NOT NULL UNIQUE,
+    price NUMERIC(10, 2) NOT NULL,
+    stock INTEGER NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('ACTIVE', 'INACTIVE', 'DELETED')),
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_products_status_id ON products (status, id);
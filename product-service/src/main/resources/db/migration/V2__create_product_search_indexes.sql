@@ -0,0 +1,17 @@
+-- Índices de búsqueda que Hibernate no puede declarar desde las entidades. CONCURRENTLY no bloquea las
+-- escrituras en products (reserveStock, altas) mientras se construyen sobre un catálogo ya poblado; por eso
+-- este script se ejecuta fuera de transacción. Si una construcción se interrumpe deja un índice INVALID:
+-- hay que eliminarlo (DROP INDEX CONCURRENTLY) y reparar el historial antes de reintentar
+
+-- Búsqueda de texto en nombre y descripción. La expresión debe coincidir con la de ProductPersistenceAdapter
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_search_text ON products
+    USING gin (to_tsvector('simple', name || ' ' || coalesce(description, '')));
+
+-- Prefijo de SKU (LIKE 'ABC%') independiente de la collation de la base
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_sku_prefix ON products (sku text_pattern_ops);
+
+-- Rango de precio
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_price ON products (price);
+
+-- Filtro inStock: solo las filas con stock, en orden de ID para la paginación keyset
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_in_stock_id ON products (id) WHERE stock > 0;
@@ -0,0 +1,78 @@
+package com.sofkify.productservice.infrastructure.messaging.config;
+
+import com.sofkify.productservice.application.dto.OrderCreatedEventDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventMessageConverterTest {
+
+    private final RabbitMQConfig config = new RabbitMQConfig();
+    private final EventMessageConverter jsonConverter =
+        new EventMessageConverter(config.objectMapper(), MessageProperties.CONTENT_TYPE_JSON);
+    private final EventMessageConverter cborConverter =
+        new EventMessageConverter(config.objectMapper(), EventMessageConverter.APPLICATION_CBOR);
+
+    @Test
+    void roundTripsOrderCreatedInBothFormats() {
+        OrderCreatedEventDTO event = orderCreated(3);
+
+        Message json = jsonConverter.toMessage(event, new MessageProperties());
+        Message cbor = cborConverter.toMessage(event, new MessageProperties());
+
+        assertThat(json.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(cbor.getMessageProperties().getContentType()).isEqualTo(EventMessageConverter.APPLICATION_CBOR);
+        // El lector se elige por el content-type del mensaje, no por el formato de salida configurado
+        assertThat(jsonConverter.decode(cbor, OrderCreatedEventDTO.class)).isEqualTo(event);
+        assertThat(cborConverter.decode(json, OrderCreatedEventDTO.class)).isEqualTo(event);
+    }
+
+    @Test
+    void readsLegacyTextPlainMessagesAsJson() throws Exception {
+        OrderCreatedEventDTO event = orderCreated(1);
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN);
+        Message legacy = new Message(
+            config.objectMapper().writeValueAsString(event).getBytes(StandardCharsets.UTF_8), properties);
+
+        assertThat(cborConverter.decode(legacy, OrderCreatedEventDTO.class)).isEqualTo(event);
+    }
+
+    @Test
+    void rejectsUnsupportedOutboundContentType() {
+        assertThatThrownBy(() -> new EventMessageConverter(config.objectMapper(), "application/xml"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cborIsMoreCompactThanJson() {
+        OrderCreatedEventDTO event = orderCreated(10);
+
+        byte[] json = jsonConverter.encode(event);
+        byte[] cbor = cborConverter.encode(event);
+
+        assertThat(cbor.length).isLessThan(json.length);
+        assertThat(cborConverter.decode(cborConverter.toMessage(event, new MessageProperties()), OrderCreatedEventDTO.class))
+            .isEqualTo(event);
+    }
+
+    private OrderCreatedEventDTO orderCreated(int itemCount) {
+        List<OrderCreatedEventDTO.OrderItemEventDTO> items = IntStream.range(0, itemCount)
+            .mapToObj(i -> new OrderCreatedEventDTO.OrderItemEventDTO(
+                UUID.randomUUID(), "Producto " + i, i + 1, new BigDecimal("19.99"), new BigDecimal("19.99").multiply(BigDecimal.valueOf(i + 1))))
+            .toList();
+        BigDecimal total = items.stream().map(OrderCreatedEventDTO.OrderItemEventDTO::totalPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new OrderCreatedEventDTO(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), items, total,
+            LocalDateTime.of(2026, 2, 13, 10, 30, 5));
+    }
+}
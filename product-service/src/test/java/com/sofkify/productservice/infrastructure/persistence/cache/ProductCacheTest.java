@@ -0,0 +1,55 @@
+package com.sofkify.productservice.infrastructure.persistence.cache;
+
+import com.sofkify.productservice.domain.enums.ProductStatus;
+import com.sofkify.productservice.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCacheTest {
+
+    private final ProductCache cache = new ProductCache(Duration.ofMinutes(5), 100, new SimpleMeterRegistry());
+    private final UUID productId = UUID.randomUUID();
+
+    @Test
+    void cachesALoadWithNoInvalidationInBetween() {
+        long stamp = cache.loadStamp();
+        cache.put(product(10, 1L), stamp);
+
+        assertThat(cache.get(productId)).map(Product::getStock).contains(10);
+    }
+
+    @Test
+    void discardsALoadThatStartedBeforeAnInvalidation() {
+        // La lectura cargó el stock anterior; el commit de la reserva invalida antes de que la lectura lo guarde
+        long stamp = cache.loadStamp();
+        cache.invalidate(List.of(productId));
+        cache.put(product(10, 1L), stamp);
+
+        assertThat(cache.get(productId)).isEmpty();
+
+        long freshStamp = cache.loadStamp();
+        cache.put(product(7, 2L), freshStamp);
+        assertThat(cache.get(productId)).map(Product::getVersion).contains(2L);
+    }
+
+    @Test
+    void invalidationOfAnotherProductDoesNotBlockCaching() {
+        long stamp = cache.loadStamp();
+        cache.invalidate(List.of(UUID.randomUUID()));
+        cache.put(product(10, 1L), stamp);
+
+        assertThat(cache.get(productId)).isPresent();
+    }
+
+    private Product product(int stock, long version) {
+        return Product.reconstitute(productId, "Laptop", "Gaming", "SKU-1", new BigDecimal("1299.99"),
+            stock, ProductStatus.ACTIVE, version);
+    }
+}
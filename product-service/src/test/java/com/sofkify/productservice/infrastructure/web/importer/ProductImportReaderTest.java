@@ -0,0 +1,93 @@
+package com.sofkify.productservice.infrastructure.web.importer;
+
+import com.sofkify.productservice.application.port.in.command.ProductImportLine;
+import com.sofkify.productservice.infrastructure.web.mapper.ProductDtoMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductImportReaderTest {
+
+    private final ProductImportReader reader = new ProductImportReader(
+        new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(), new ProductDtoMapper());
+
+    @Test
+    void readsJsonArrayAndNdjson() {
+        String array = """
+            [{"name":"Laptop","sku":"LAP-1","price":999.99,"stock":5},
+             {"name":"Mouse","description":"Inalámbrico","sku":"MOU-1","price":19.90,"stock":0}]
+            """;
+        String ndjson = """
+            {"name":"Laptop","sku":"LAP-1","price":999.99,"stock":5}
+            {"name":"Mouse","description":"Inalámbrico","sku":"MOU-1","price":19.90,"stock":0}
+            """;
+
+        for (String body : List.of(array, ndjson)) {
+            List<ProductImportLine> lines = readAll(reader.readJson(stream(body)));
+            assertThat(lines).extracting(ProductImportLine::row).containsExactly(1, 2);
+            assertThat(lines).extracting(ProductImportLine::error).containsOnlyNulls();
+            assertThat(lines.get(1).command().description()).isEqualTo("Inalámbrico");
+            assertThat(lines.get(1).command().price()).isEqualByComparingTo("19.90");
+        }
+    }
+
+    @Test
+    void readsCsvWithHeaderAndQuotedValues() {
+        String csv = """
+            name,description,sku,price,stock
+            Laptop,"Pantalla 15"", 16GB",LAP-1,999.99,5
+            Mouse,,MOU-1,19.90,0
+            """;
+
+        List<ProductImportLine> lines = readAll(reader.readCsv(stream(csv)));
+
+        assertThat(lines).extracting(ProductImportLine::sku).containsExactly("LAP-1", "MOU-1");
+        assertThat(lines.get(0).command().description()).isEqualTo("Pantalla 15\", 16GB");
+        assertThat(lines.get(0).command().price()).isEqualTo(new BigDecimal("999.99"));
+        assertThat(lines.get(1).command().stock()).isZero();
+    }
+
+    @Test
+    void rejectsInvalidRowsAndKeepsReading() {
+        String json = """
+            [{"name":"Laptop","sku":"LAP-1","price":"abc","stock":5},
+             {"name":"","sku":"MOU-1","price":19.90,"stock":-1},
+             {"name":"Teclado","sku":"KEY-1","price":49.00,"stock":3}]
+            """;
+        String csv = """
+            name,description,sku,price,stock
+            Laptop,,LAP-1,abc,5
+            ,,MOU-1,19.90,-1
+            Teclado,,KEY-1,49.00,3
+            """;
+
+        for (List<ProductImportLine> lines : List.of(readAll(reader.readJson(stream(json))), readAll(reader.readCsv(stream(csv))))) {
+            assertThat(lines).hasSize(3);
+            assertThat(lines.get(0).command()).isNull();
+            assertThat(lines.get(0).error()).isNotBlank();
+            assertThat(lines.get(1).sku()).isEqualTo("MOU-1");
+            assertThat(lines.get(1).error()).contains("name:").contains("stock:");
+            assertThat(lines.get(2).error()).isNull();
+            assertThat(lines.get(2).row()).isEqualTo(3);
+        }
+    }
+
+    private List<ProductImportLine> readAll(Iterator<ProductImportLine> lines) {
+        List<ProductImportLine> all = new ArrayList<>();
+        lines.forEachRemaining(all::add);
+        return all;
+    }
+
+    private ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
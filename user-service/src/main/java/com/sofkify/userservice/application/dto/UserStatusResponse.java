@@ -0,0 +1,19 @@
+package com.sofkify.userservice.application.dto;
+
+public class UserStatusResponse {
+    private String id;
+    private String status;
+    private boolean active;
+
+    // Constructor
+    public UserStatusResponse(String id, String status, boolean active) {
+        this.id = id;
+        this.status = status;
+        this.active = active;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getStatus() { return status; }
+    public boolean isActive() { return active; }
+}
@@ -52,6 +52,11 @@ public class UserService implements UserServicePort {
         return userRepository.findById(id);
     }
 
+    @Override
+    public Optional<UserStatus> findStatusById(String id) {
+        return userRepository.findStatusById(id);
+    }
+
     @Override
     public User updateProfile(String userId, String newName, String newEmail) {
         // 1. Buscar usuario existente
@@ -2,6 +2,7 @@ package com.sofkify.userservice.domain.ports.in;
 
 import com.sofkify.userservice.domain.model.User;
 import com.sofkify.userservice.domain.model.UserRole;
+import com.sofkify.userservice.domain.model.UserStatus;
 
 import java.util.Optional;
 
@@ -16,6 +17,9 @@ public interface UserServicePort {
     // Buscar usuario por ID
     Optional<User> findById(String id);
 
+    // Consultar solo el estado del usuario por ID
+    Optional<UserStatus> findStatusById(String id);
+
     // Actualizar perfil de usuario
     User updateProfile(String userId, String newName, String newEmail);
 
@@ -1,6 +1,7 @@
 package com.sofkify.userservice.domain.ports.out;
 
 import com.sofkify.userservice.domain.model.User;
+import com.sofkify.userservice.domain.model.UserStatus;
 import java.util.Optional;
 
 public interface UserRepositoryPort {
@@ -11,6 +12,9 @@ public interface UserRepositoryPort {
     // Buscar por ID
     Optional<User> findById(String id);
 
+    // Consultar solo el estado por ID
+    Optional<UserStatus> findStatusById(String id);
+
     // Buscar por email
     Optional<User> findByEmail(String email);
 
@@ -3,6 +3,7 @@ package com.sofkify.userservice.infrastructure.adapters.in.rest;
 import com.sofkify.userservice.application.dto.*;
 import com.sofkify.userservice.application.exception.UserNotFoundException;
 import com.sofkify.userservice.domain.model.User;
+import com.sofkify.userservice.domain.model.UserStatus;
 import com.sofkify.userservice.domain.ports.in.UserServicePort;
 import com.sofkify.userservice.infrastructure.mapper.LoginResponseMapper;
 import com.sofkify.userservice.infrastructure.mapper.UserMapper;
@@ -42,6 +43,14 @@ public class UserRestController {
         return ResponseEntity.ok(response);
     }
 
+    // Consulta ligera para otros servicios; también responde a HEAD (solo código de estado)
+    @GetMapping("/{id}/status")
+    public ResponseEntity<UserStatusResponse> getUserStatus(@PathVariable String id) {
+        UserStatus status = userService.findStatusById(id)
+                .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado: " + id));
+        return ResponseEntity.ok(new UserStatusResponse(id, status.name(), status == UserStatus.ACTIVE));
+    }
+
     @GetMapping("/email/{email}")
     public ResponseEntity<UserResponse> getUserByEmail(@PathVariable String email) {
         User user = userService.findByEmail(email);
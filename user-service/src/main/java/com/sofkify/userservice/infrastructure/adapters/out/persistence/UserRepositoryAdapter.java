@@ -36,6 +36,11 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return entity.map(userMapper::toDomain);
     }
 
+    @Override
+    public Optional<UserStatus> findStatusById(String id) {
+        return userRepository.findStatusById(id);
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         Optional<UserEntity> entity = userRepository.findByEmail(email);
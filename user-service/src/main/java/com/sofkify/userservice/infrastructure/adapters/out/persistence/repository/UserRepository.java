@@ -1,7 +1,10 @@
 package com.sofkify.userservice.infrastructure.adapters.out.persistence.repository;
 
 import com.sofkify.userservice.infrastructure.adapters.out.persistence.entity.UserEntity;
+import com.sofkify.userservice.domain.model.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,5 +16,9 @@ public interface UserRepository extends JpaRepository<UserEntity, String> {
 
     boolean existsByEmail(String email);
 
+    // Proyección de una sola columna: evita cargar la entidad completa para consultas de estado
+    @Query("SELECT u.status FROM UserEntity u WHERE u.id = :id")
+    Optional<UserStatus> findStatusById(@Param("id") String id);
+
     void deleteById(String id);
 }